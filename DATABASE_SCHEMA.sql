@@ -32,12 +32,58 @@ CREATE TABLE IF NOT EXISTS services (
     service_time DATETIME NOT NULL,
     type VARCHAR(20) NOT NULL DEFAULT 'SUNDAY',
     active BOOLEAN NOT NULL DEFAULT TRUE,
+    template_id BIGINT,                -- 정기 예배 템플릿으로 생성된 경우 템플릿 ID
+    occurrence_date DATE,              -- 템플릿 기준 예배 날짜 (시간 변경 예외가 있어도 유지)
+    late_processed_at DATETIME,        -- 자동 지각 처리 완료 시간
+    closed_at DATETIME,                -- 결석 처리 완료 시간
     created_at DATETIME NOT NULL,
     updated_at DATETIME NOT NULL,
+    UNIQUE KEY uk_service_template_occurrence (template_id, occurrence_date),
     INDEX idx_service_time (service_time),
     INDEX idx_active (active)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- Service Templates 테이블 (정기 예배, 매주 같은 요일/시간)
+CREATE TABLE IF NOT EXISTS service_templates (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    type VARCHAR(20) NOT NULL,
+    day_of_week VARCHAR(10) NOT NULL,
+    start_time TIME NOT NULL,
+    valid_from DATE,
+    valid_until DATE,
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Service Template Exceptions 테이블 (예배 없음, 시간 변경)
+CREATE TABLE IF NOT EXISTS service_template_exceptions (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    template_id BIGINT NOT NULL,
+    exception_date DATE NOT NULL,
+    skip BOOLEAN NOT NULL,
+    override_time TIME,
+    reason VARCHAR(200),
+    FOREIGN KEY (template_id) REFERENCES service_templates(id),
+    UNIQUE KEY uk_template_exception_date (template_id, exception_date)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Venues 테이블 (출석 장소, 원 또는 다각형)
+CREATE TABLE IF NOT EXISTS venues (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    shape VARCHAR(10) NOT NULL,
+    latitude DOUBLE NOT NULL,
+    longitude DOUBLE NOT NULL,
+    radius DOUBLE,                     -- 원의 반경 (미터)
+    polygon TEXT,                      -- 다각형 꼭짓점 "위도,경도;위도,경도;..."
+    service_id BIGINT,                 -- 적용 예배 (NULL 이면 모든 예배)
+    active BOOLEAN NOT NULL DEFAULT TRUE,
+    created_at DATETIME NOT NULL,
+    updated_at DATETIME NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- Pending Users 테이블 (사전 등록된 사용자)
 CREATE TABLE IF NOT EXISTS pending_users (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -70,9 +116,83 @@ CREATE TABLE IF NOT EXISTS attendance (
     INDEX idx_user_id (user_id),
     INDEX idx_service_id (service_id),
     INDEX idx_status (status),
-    INDEX idx_checked_at (checked_at)
+    INDEX idx_checked_at (checked_at),
+    INDEX idx_attendance_checked_at (checked_at, id),
+    INDEX idx_attendance_service_status (service_id, status)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Service Attendance Counters 테이블 (예배별 출석 인원)
+CREATE TABLE IF NOT EXISTS service_attendance_counters (
+    service_id BIGINT PRIMARY KEY,
+    present_count BIGINT NOT NULL,
+    late_count BIGINT NOT NULL,
+    absent_count BIGINT NOT NULL,
+    expected_count BIGINT,             -- 예배 종료 시점의 활성 일반 사용자 수 (종료 전이면 NULL)
+    rolled_up_at DATETIME              -- 기간별 추이 집계 반영 시간
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- User Attendance Stats 테이블 (사용자별 출석 통계)
+CREATE TABLE IF NOT EXISTS user_attendance_stats (
+    user_id BIGINT PRIMARY KEY,
+    present_count BIGINT NOT NULL,
+    late_count BIGINT NOT NULL,
+    absent_count BIGINT NOT NULL,
+    last_attended_at DATETIME,
+    recent_weeks_mask BIGINT NOT NULL, -- 최근 64주 출석 여부
+    mask_week_start DATE,              -- 비트 0 에 해당하는 주의 시작일 (일요일)
+    applied_attendance_id BIGINT NOT NULL DEFAULT 0  -- 통계에 반영한 마지막 출석 기록 ID
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Attendance Trend Buckets 테이블 (주/월별, 예배 유형별 출석 추이)
+CREATE TABLE IF NOT EXISTS attendance_trend_buckets (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    period VARCHAR(10) NOT NULL,
+    bucket_start DATE NOT NULL,        -- 구간 시작일 (주: 일요일, 월: 1일)
+    service_type VARCHAR(20) NOT NULL,
+    service_count BIGINT NOT NULL,
+    present_count BIGINT NOT NULL,
+    late_count BIGINT NOT NULL,
+    absent_count BIGINT NOT NULL,
+    expected_count BIGINT NOT NULL,
+    UNIQUE KEY uk_trend_bucket (period, bucket_start, service_type)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- Refresh Tokens 테이블 (토큰 값은 SHA-256 해시로만 저장)
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    token_hash VARCHAR(64) NOT NULL,
+    family_id VARCHAR(36) NOT NULL,    -- 최초 로그인 시 생성, 갱신된 토큰이 이어받음
+    user_id BIGINT NOT NULL,
+    expires_at DATETIME NOT NULL,
+    created_at DATETIME NOT NULL,
+    revoked_at DATETIME,
+    replaced_by_id BIGINT,
+    UNIQUE KEY uk_refresh_token_hash (token_hash),
+    INDEX idx_refresh_token_family (family_id),
+    INDEX idx_refresh_token_user (user_id),
+    INDEX idx_refresh_token_expires_at (expires_at)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- Scheduler Locks 테이블 (여러 서버 중 한 곳에서만 스케줄러 작업 실행)
+CREATE TABLE IF NOT EXISTS scheduler_locks (
+    name VARCHAR(100) PRIMARY KEY,
+    owner VARCHAR(150) NOT NULL,
+    fencing_token BIGINT NOT NULL,
+    lease_until DATETIME NOT NULL,
+    acquired_at DATETIME NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- 기존 데이터베이스 업그레이드 (위 CREATE TABLE 은 이미 있는 테이블을 바꾸지 않으므로 한 번만 실행)
+-- ALTER TABLE services
+--     ADD COLUMN template_id BIGINT,
+--     ADD COLUMN occurrence_date DATE,
+--     ADD COLUMN late_processed_at DATETIME,
+--     ADD COLUMN closed_at DATETIME,
+--     ADD UNIQUE KEY uk_service_template_occurrence (template_id, occurrence_date);
+-- ALTER TABLE attendance
+--     ADD INDEX idx_attendance_checked_at (checked_at, id),
+--     ADD INDEX idx_attendance_service_status (service_id, status);
+
 -- 샘플 데이터 삽입
 
 -- 관리자 계정 (username: admin, password: admin123)
@@ -1,6 +1,6 @@
 import React, { useState } from 'react';
 import { authAPI } from '../services/api';
-import { saveToken, saveUserInfo } from '../utils/auth';
+import { saveToken, saveRefreshToken, saveUserInfo } from '../utils/auth';
 import './Login.css';
 
 function Login({ setIsAuthenticated }) {
@@ -26,6 +26,7 @@ function Login({ setIsAuthenticated }) {
       }
 
       saveToken(data.token);
+      saveRefreshToken(data.refreshToken);
       saveUserInfo(data);
       setIsAuthenticated(true);
     } catch (err) {
@@ -1,6 +1,6 @@
 import axios from 'axios';
 import config from '../config';
-import { getToken, logout } from '../utils/auth';
+import { getToken, getRefreshToken, saveToken, saveRefreshToken, logout } from '../utils/auth';
 
 const api = axios.create({
   baseURL: config.apiBaseUrl,
@@ -23,10 +23,43 @@ api.interceptors.request.use(
   }
 );
 
+// 토큰 갱신 (동시에 여러 요청이 만료되어도 갱신 요청은 한 번만 보냄)
+let refreshing = null;
+
+const refreshAccessToken = () => {
+  if (!refreshing) {
+    const refreshToken = getRefreshToken();
+    refreshing = (refreshToken
+      ? axios.post(`${config.apiBaseUrl}/auth/refresh`, { refreshToken })
+      : Promise.reject(new Error('no refresh token'))
+    )
+      .then((response) => {
+        saveToken(response.data.token);
+        saveRefreshToken(response.data.refreshToken);
+        return response.data.token;
+      })
+      .finally(() => {
+        refreshing = null;
+      });
+  }
+  return refreshing;
+};
+
 // 응답 인터셉터
 api.interceptors.response.use(
   (response) => response,
-  (error) => {
+  async (error) => {
+    const original = error.config;
+    if (error.response?.status === 401 && original && !original._retried && !original.url?.startsWith('/auth/')) {
+      original._retried = true;
+      try {
+        const token = await refreshAccessToken();
+        original.headers.Authorization = `Bearer ${token}`;
+        return api(original);
+      } catch (refreshError) {
+        // 리프레시 토큰도 만료/폐기된 경우 다시 로그인
+      }
+    }
     if (error.response?.status === 401) {
       logout();
       window.location.href = '/login';
@@ -10,6 +10,14 @@ export const removeToken = () => {
   localStorage.removeItem('token');
 };
 
+export const saveRefreshToken = (refreshToken) => {
+  localStorage.setItem('refreshToken', refreshToken);
+};
+
+export const getRefreshToken = () => {
+  return localStorage.getItem('refreshToken');
+};
+
 export const saveUserInfo = (userInfo) => {
   localStorage.setItem('userInfo', JSON.stringify(userInfo));
 };
@@ -21,6 +29,7 @@ export const getUserInfo = () => {
 
 export const logout = () => {
   removeToken();
+  localStorage.removeItem('refreshToken');
   localStorage.removeItem('userInfo');
 };
 
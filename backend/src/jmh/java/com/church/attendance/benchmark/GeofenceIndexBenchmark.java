@@ -0,0 +1,57 @@
+package com.church.attendance.benchmark;
+
+import com.church.attendance.util.GeofenceIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 출석 장소 격자 색인 판정 비용 측정 (장소 수에 따른 변화)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GeofenceIndexBenchmark {
+    
+    @Param({"1", "100", "10000"})
+    private int venues;
+    
+    private GeofenceIndex index;
+    private double insideLatitude = 37.5670;
+    private double insideLongitude = 126.9785;
+    private double outsideLatitude = 37.5800;
+    private double outsideLongitude = 126.9900;
+    
+    @Setup
+    public void setUp() {
+        List<GeofenceIndex.Fence> fences = new ArrayList<>();
+        fences.add(GeofenceIndex.Fence.circle(0L, "본당", null, 37.5665, 126.9780, 100));
+        for (int i = 1; i < venues; i++) {
+            double latitude = 33.0 + (i % 100) * 0.05;
+            double longitude = 125.0 + (i / 100) * 0.05;
+            if (i % 2 == 0) {
+                fences.add(GeofenceIndex.Fence.circle((long) i, "장소 " + i, null, latitude, longitude, 150));
+            } else {
+                fences.add(GeofenceIndex.Fence.polygon((long) i, "장소 " + i, null,
+                        new double[]{latitude, latitude + 0.002, latitude + 0.002, latitude},
+                        new double[]{longitude, longitude, longitude + 0.002, longitude + 0.002}));
+            }
+        }
+        index = GeofenceIndex.build(fences, 0.01);
+    }
+    
+    @Benchmark
+    public boolean locateInside() {
+        return index.locate(1L, insideLatitude, insideLongitude).isInside();
+    }
+    
+    @Benchmark
+    public boolean locateOutside() {
+        return index.locate(1L, outsideLatitude, outsideLongitude).isInside();
+    }
+}
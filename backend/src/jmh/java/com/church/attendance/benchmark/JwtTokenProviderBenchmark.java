@@ -0,0 +1,50 @@
+package com.church.attendance.benchmark;
+
+import com.church.attendance.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 발급 및 검증 비용 측정 (검증 캐시 사용/미사용 비교)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+    
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-256-bits-long";
+    private static final long EXPIRATION = 86400000L;
+    
+    @Param({"false", "true"})
+    private boolean verifiedCacheEnabled;
+    
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+    
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider(SECRET, EXPIRATION, verifiedCacheEnabled, 10000);
+        authentication = new UsernamePasswordAuthenticationToken(
+                new User("member01", "", Collections.emptyList()), null, Collections.emptyList());
+        token = tokenProvider.generateToken(authentication);
+    }
+    
+    @Benchmark
+    public String generateToken() {
+        return tokenProvider.generateToken(authentication);
+    }
+    
+    @Benchmark
+    public Object parseVerifiedClaims() {
+        return tokenProvider.parseVerifiedClaims(token);
+    }
+}
@@ -0,0 +1,33 @@
+package com.church.attendance.benchmark;
+
+import com.church.attendance.util.LocationUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거리 계산(Haversine) 비용 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class LocationUtilBenchmark {
+    
+    private double churchLatitude = 37.5665;
+    private double churchLongitude = 126.9780;
+    private double userLatitude = 37.5670;
+    private double userLongitude = 126.9785;
+    
+    @Benchmark
+    public double calculateDistance() {
+        return LocationUtil.calculateDistance(churchLatitude, churchLongitude, userLatitude, userLongitude);
+    }
+    
+    @Benchmark
+    public boolean isWithinRadius() {
+        return LocationUtil.isWithinRadius(churchLatitude, churchLongitude, userLatitude, userLongitude, 100);
+    }
+}
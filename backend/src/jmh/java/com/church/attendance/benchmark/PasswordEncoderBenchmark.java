@@ -0,0 +1,43 @@
+package com.church.attendance.benchmark;
+
+import com.church.attendance.config.SecurityConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SecurityConfig 의 비밀번호 인코더(BCrypt) 비용 측정 (security.password.bcrypt-strength 별)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+    
+    private static final String PASSWORD = "password123";
+    
+    @Param({"10", "12"})
+    private int strength;
+    
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+    
+    @Setup
+    public void setUp() {
+        passwordEncoder = new SecurityConfig(null).passwordEncoder(strength);
+        encodedPassword = passwordEncoder.encode(PASSWORD);
+    }
+    
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(PASSWORD);
+    }
+    
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(PASSWORD, encodedPassword);
+    }
+}
@@ -0,0 +1,66 @@
+package com.church.attendance.benchmark;
+
+import com.church.attendance.dto.AttendanceResponse;
+import com.church.attendance.dto.ServiceResponse;
+import com.church.attendance.entity.Attendance;
+import com.church.attendance.entity.Service;
+import com.church.attendance.entity.User;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 비용 측정
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ResponseMappingBenchmark {
+    
+    private Attendance attendance;
+    private Service service;
+    
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .id(1L)
+                .username("member01")
+                .name("홍길동")
+                .role(User.Role.USER)
+                .active(true)
+                .build();
+        
+        service = Service.builder()
+                .id(1L)
+                .name("주일 예배 (2024-01-07)")
+                .serviceTime(LocalDateTime.of(2024, 1, 7, 14, 0))
+                .type(Service.ServiceType.SUNDAY)
+                .active(true)
+                .build();
+        
+        attendance = Attendance.builder()
+                .id(1L)
+                .user(user)
+                .service(service)
+                .status(Attendance.AttendanceStatus.PRESENT)
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .distance(12.5)
+                .checkedAt(LocalDateTime.of(2024, 1, 7, 13, 50))
+                .build();
+    }
+    
+    @Benchmark
+    public AttendanceResponse attendanceResponseFrom() {
+        return AttendanceResponse.from(attendance);
+    }
+    
+    @Benchmark
+    public ServiceResponse serviceResponseFrom() {
+        return ServiceResponse.from(service, true);
+    }
+}
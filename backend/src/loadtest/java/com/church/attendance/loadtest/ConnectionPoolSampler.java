@@ -0,0 +1,50 @@
+package com.church.attendance.loadtest;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 테스트 중 DB 연결 풀 사용량 표본 수집 (100ms 간격)
+ * 스레드 모드별로 연결 수 상한에 얼마나 부딪혔는지 비교하기 위함
+ */
+public class ConnectionPoolSampler {
+    
+    private final HikariDataSource dataSource;
+    private final ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor();
+    private volatile int maxActive;
+    private volatile int maxAwaiting;
+    
+    public ConnectionPoolSampler(DataSource dataSource) throws SQLException {
+        this.dataSource = dataSource.unwrap(HikariDataSource.class);
+        sampler.scheduleAtFixedRate(this::sample, 0, 100, TimeUnit.MILLISECONDS);
+    }
+    
+    public void stop() {
+        sampler.shutdownNow();
+    }
+    
+    public Map<String, Object> summarize() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("maximumPoolSize", dataSource.getMaximumPoolSize());
+        summary.put("maxActive", maxActive);
+        summary.put("maxAwaiting", maxAwaiting);
+        return summary;
+    }
+    
+    private void sample() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        if (pool == null) {
+            return;
+        }
+        maxActive = Math.max(maxActive, pool.getActiveConnections());
+        maxAwaiting = Math.max(maxAwaiting, pool.getThreadsAwaitingConnection());
+    }
+}
@@ -0,0 +1,90 @@
+package com.church.attendance.loadtest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 종류별 응답 시간 및 결과 집계
+ */
+public class LoadTestMetrics {
+    
+    private final String requestType;
+    private final List<Long> latenciesNanos = new ArrayList<>();
+    private final AtomicLong success = new AtomicLong();
+    private final AtomicLong clientErrors = new AtomicLong();
+    private final AtomicLong serverErrors = new AtomicLong();
+    
+    public LoadTestMetrics(String requestType) {
+        this.requestType = requestType;
+    }
+    
+    public String getRequestType() {
+        return requestType;
+    }
+    
+    public void record(long latencyNanos, int statusCode) {
+        synchronized (latenciesNanos) {
+            latenciesNanos.add(latencyNanos);
+        }
+        if (statusCode < 400) {
+            success.incrementAndGet();
+        } else if (statusCode < 500) {
+            clientErrors.incrementAndGet();
+        } else {
+            serverErrors.incrementAndGet();
+        }
+    }
+    
+    public void recordFailure(long latencyNanos) {
+        record(latencyNanos, 599);
+    }
+    
+    public int getCount() {
+        synchronized (latenciesNanos) {
+            return latenciesNanos.size();
+        }
+    }
+    
+    /**
+     * 결과 요약 (응답 시간은 밀리초)
+     */
+    public Map<String, Object> summarize(double elapsedSeconds, long queryCount) {
+        List<Long> sorted;
+        synchronized (latenciesNanos) {
+            sorted = new ArrayList<>(latenciesNanos);
+        }
+        Collections.sort(sorted);
+        
+        int count = sorted.size();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("request", requestType);
+        summary.put("count", count);
+        summary.put("success", success.get());
+        summary.put("clientErrors", clientErrors.get());
+        summary.put("serverErrors", serverErrors.get());
+        summary.put("throughputPerSec", round(count / elapsedSeconds));
+        summary.put("p50Ms", percentile(sorted, 0.50));
+        summary.put("p90Ms", percentile(sorted, 0.90));
+        summary.put("p99Ms", percentile(sorted, 0.99));
+        summary.put("maxMs", count == 0 ? 0.0 : round(sorted.get(count - 1) / 1_000_000.0));
+        summary.put("queries", queryCount);
+        summary.put("queriesPerRequest", count == 0 ? 0.0 : round((double) queryCount / count));
+        return summary;
+    }
+    
+    private static double percentile(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.size()) - 1;
+        return round(sorted.get(Math.max(0, index)) / 1_000_000.0);
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
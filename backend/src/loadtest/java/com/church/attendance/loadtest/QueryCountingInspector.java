@@ -0,0 +1,58 @@
+package com.church.attendance.loadtest;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청 종류별 SQL 실행 횟수 집계
+ * RequestTaggingFilter 가 현재 스레드에 요청 종류를 표시하고,
+ * Hibernate 가 SQL 을 준비할 때마다 해당 종류의 카운터를 증가
+ * (JdbcTemplate 으로 직접 실행되는 SQL 은 집계되지 않음)
+ * 
+ * loadtest.sql-latency-ms 를 지정하면 SQL 마다 그만큼 대기하여 원격 MySQL 왕복 시간을 흉내냄
+ * (내장 H2 는 I/O 대기가 없어 스레드 모드 간 차이가 드러나지 않으므로)
+ */
+public class QueryCountingInspector implements StatementInspector {
+    
+    private static final String BACKGROUND = "background";
+    
+    private static final ThreadLocal<String> CURRENT_TYPE = new ThreadLocal<>();
+    private static final Map<String, LongAdder> COUNTS = new ConcurrentHashMap<>();
+    private static final long SQL_LATENCY_MILLIS = Long.getLong("loadtest.sql-latency-ms", 0L);
+    
+    public static void begin(String requestType) {
+        CURRENT_TYPE.set(requestType);
+    }
+    
+    public static void end() {
+        CURRENT_TYPE.remove();
+    }
+    
+    public static long getCount(String requestType) {
+        LongAdder count = COUNTS.get(requestType);
+        return count != null ? count.sum() : 0;
+    }
+    
+    public static void reset() {
+        COUNTS.clear();
+    }
+    
+    @Override
+    public String inspect(String sql) {
+        String requestType = CURRENT_TYPE.get();
+        COUNTS.computeIfAbsent(requestType != null ? requestType : BACKGROUND, key -> new LongAdder())
+                .increment();
+        
+        if (SQL_LATENCY_MILLIS > 0) {
+            try {
+                Thread.sleep(SQL_LATENCY_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return sql;
+    }
+}
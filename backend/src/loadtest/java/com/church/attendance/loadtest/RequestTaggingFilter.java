@@ -0,0 +1,33 @@
+package com.church.attendance.loadtest;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 처리 스레드에 요청 종류(예: "POST /api/attendance/check")를 표시
+ * 인증 필터보다 먼저 실행되어 인증 과정의 SQL 도 해당 요청으로 집계됨
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class RequestTaggingFilter extends OncePerRequestFilter {
+    
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        QueryCountingInspector.begin(request.getMethod() + " " + request.getRequestURI());
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryCountingInspector.end();
+        }
+    }
+}
@@ -0,0 +1,298 @@
+package com.church.attendance.loadtest;
+
+import com.church.attendance.AttendanceApplication;
+import com.church.attendance.entity.Service;
+import com.church.attendance.entity.User;
+import com.church.attendance.repository.UserRepository;
+import com.church.attendance.security.JwtTokenProvider;
+import com.church.attendance.service.ServiceService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.sql.DataSource;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주일 출석 집중 시간 부하 테스트
+ * 
+ * 내장 H2 데이터베이스로 애플리케이션을 기동한 뒤, 교인 N명이 예배 전 도착 분포에 따라
+ * 다음 예배 조회 -> 출석 체크 -> 내 출석 기록 조회 순서로 요청을 보내고
+ * 요청 종류별 처리량, 응답 시간 백분위, SQL 실행 횟수를 출력
+ * 요청당 평균 SQL 실행 횟수가 허용치(QUERY_BUDGETS)를 넘거나 오류 응답이 한 건이라도 있으면 실패(종료 코드 1)로 처리
+ * 
+ * 실행: mvn -P loadtest verify -Dloadtest.members=2000 -Dloadtest.window-seconds=60
+ * 가상 스레드 모드 비교: mvn -P loadtest,virtual-threads verify -Dloadtest.virtual-threads=true -Dloadtest.sql-latency-ms=5
+ * (가상 스레드 모드 결과는 파일 이름에 -virtual 을 붙여 저장하므로 두 결과를 나란히 비교 가능)
+ */
+public class SundayRushLoadTest {
+    
+    private static final String NEXT_SERVICE = "GET /api/services/next";
+    private static final String CHECK = "POST /api/attendance/check";
+    private static final String MY_ATTENDANCES = "GET /api/attendance/my";
+    
+    /**
+     * 요청당 평균 SQL 허용치 (교인마다 요청 종류별로 한 번씩 보내므로 최초 조회도 요청마다 1건)
+     * - 다음 예배: 인증 사용자 최초 조회 1 (예배는 일정 캐시에서 조회)
+     * - 출석 체크: 사용자 최초 조회 1 + INSERT 1 + 예배 인원 UPDATE 1 (+ 예배 최초 적재, 교인 수로 나누면 0.01 미만)
+     * - 내 출석 기록: ETag 용 기록 수/최대 ID 1 + 사용자/예배 이름을 포함한 프로젝션 1
+     * 조회별 정확한 횟수는 RepositoryQueryCountTest 에서 확인
+     */
+    private static final Map<String, Double> QUERY_BUDGETS = Map.of(
+            NEXT_SERVICE, 1.0,
+            CHECK, 3.01,
+            MY_ATTENDANCES, 2.0
+    );
+    
+    private static final double CHURCH_LATITUDE = 37.5665;
+    private static final double CHURCH_LONGITUDE = 126.9780;
+    
+    public static void main(String[] args) throws Exception {
+        int members = Integer.getInteger("loadtest.members", 2000);
+        int windowSeconds = Integer.getInteger("loadtest.window-seconds", 60);
+        int concurrency = Integer.getInteger("loadtest.concurrency", 200);
+        boolean virtualThreads = Boolean.getBoolean("loadtest.virtual-threads");
+        long sqlLatencyMillis = Long.getLong("loadtest.sql-latency-ms", 0L);
+        String resultFile = System.getProperty("loadtest.result-file", "target/loadtest-result.json");
+        
+        if (virtualThreads && Runtime.version().feature() < 21) {
+            System.out.println("가상 스레드 모드는 Java 21 이상이 필요합니다 (현재 " + Runtime.version().feature() + ")");
+            System.exit(1);
+        }
+        if (virtualThreads) {
+            resultFile = resultFile.replaceFirst("\\.json$", "-virtual.json");
+        }
+        
+        SpringApplication application = new SpringApplication(AttendanceApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        ConfigurableApplicationContext context = application.run(
+                "--server.port=0", "--spring.threads.virtual.enabled=" + virtualThreads);
+        
+        int exitCode = 0;
+        try {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            
+            // 1. 테스트 데이터 준비: 예배 1건(10분 후 시작), 교인 N명과 JWT
+            Service service = context.getBean(ServiceService.class).createService(
+                    "부하 테스트 예배", LocalDateTime.now().plusMinutes(10), Service.ServiceType.SPECIAL);
+            List<String> tokens = createMembers(context, members);
+            
+            QueryCountingInspector.reset();
+            
+            // 2. 도착 분포에 따라 요청 실행
+            Map<String, LoadTestMetrics> metrics = new LinkedHashMap<>();
+            metrics.put(NEXT_SERVICE, new LoadTestMetrics(NEXT_SERVICE));
+            metrics.put(CHECK, new LoadTestMetrics(CHECK));
+            metrics.put(MY_ATTENDANCES, new LoadTestMetrics(MY_ATTENDANCES));
+            
+            ConnectionPoolSampler poolSampler = new ConnectionPoolSampler(context.getBean(DataSource.class));
+            long startedAt = System.nanoTime();
+            runArrivals(baseUrl, service.getId(), tokens, windowSeconds, concurrency, metrics);
+            double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+            poolSampler.stop();
+            
+            // 3. 결과 출력
+            List<Map<String, Object>> results = new ArrayList<>();
+            for (LoadTestMetrics metric : metrics.values()) {
+                results.add(metric.summarize(elapsedSeconds,
+                        QueryCountingInspector.getCount(metric.getRequestType())));
+            }
+            
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("members", members);
+            report.put("windowSeconds", windowSeconds);
+            report.put("concurrency", concurrency);
+            report.put("threadMode", virtualThreads ? "virtual" : "platform");
+            report.put("sqlLatencyMs", sqlLatencyMillis);
+            report.put("connectionPool", poolSampler.summarize());
+            report.put("elapsedSeconds", Math.round(elapsedSeconds * 100.0) / 100.0);
+            report.put("results", results);
+            
+            ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+            File output = new File(resultFile);
+            if (output.getParentFile() != null) {
+                output.getParentFile().mkdirs();
+            }
+            objectMapper.writeValue(output, report);
+            
+            printReport(results);
+            System.out.println("스레드 모드: " + (virtualThreads ? "virtual" : "platform")
+                    + ", DB 연결 " + poolSampler.summarize());
+            System.out.println("결과 파일: " + output.getAbsolutePath());
+            
+            // 오류 응답은 SQL 없이 끝나 요청당 횟수를 낮추므로 함께 실패 처리
+            boolean errorsPassed = checkErrors(results, members);
+            boolean budgetsPassed = checkQueryBudgets(results);
+            if (!errorsPassed || !budgetsPassed) {
+                exitCode = 1;
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+    
+    private static List<String> createMembers(ConfigurableApplicationContext context, int members) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        JwtTokenProvider tokenProvider = context.getBean(JwtTokenProvider.class);
+        String encodedPassword = context.getBean(PasswordEncoder.class).encode("loadtest");
+        
+        List<User> users = new ArrayList<>();
+        for (int i = 1; i <= members; i++) {
+            users.add(User.builder()
+                    .username(String.format("member%05d", i))
+                    .password(encodedPassword)
+                    .name("교인" + i)
+                    .role(User.Role.USER)
+                    .active(true)
+                    .build());
+        }
+        userRepository.saveAll(users);
+        
+        List<String> tokens = new ArrayList<>();
+        for (User user : users) {
+            org.springframework.security.core.userdetails.User principal =
+                    new org.springframework.security.core.userdetails.User(
+                            user.getUsername(), "", Collections.emptyList());
+            tokens.add(tokenProvider.generateToken(
+                    new UsernamePasswordAuthenticationToken(principal, null, Collections.emptyList())));
+        }
+        return tokens;
+    }
+    
+    /**
+     * 교인별 도착 시각을 종 모양 분포(균등분포 3개의 평균)로 생성하여 요청 예약
+     * 대부분 창 중앙에 몰리고 양 끝은 드문 실제 예배 전 도착 패턴을 근사
+     */
+    private static void runArrivals(String baseUrl, Long serviceId, List<String> tokens,
+                                    int windowSeconds, int concurrency,
+                                    Map<String, LoadTestMetrics> metrics) throws InterruptedException {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        ScheduledExecutorService arrivals = Executors.newSingleThreadScheduledExecutor();
+        CountDownLatch done = new CountDownLatch(tokens.size());
+        Random random = new Random(42);
+        
+        for (String token : tokens) {
+            double shape = (random.nextDouble() + random.nextDouble() + random.nextDouble()) / 3.0;
+            long arrivalMillis = (long) (shape * windowSeconds * 1000);
+            double latitude = CHURCH_LATITUDE + (random.nextDouble() - 0.5) * 0.0005;
+            double longitude = CHURCH_LONGITUDE + (random.nextDouble() - 0.5) * 0.0005;
+            
+            arrivals.schedule(() -> workers.execute(() -> {
+                try {
+                    send(httpClient, metrics.get(NEXT_SERVICE), HttpRequest.newBuilder()
+                            .uri(URI.create(baseUrl + "/api/services/next"))
+                            .header("Authorization", "Bearer " + token)
+                            .GET());
+                    send(httpClient, metrics.get(CHECK), HttpRequest.newBuilder()
+                            .uri(URI.create(baseUrl + "/api/attendance/check"))
+                            .header("Authorization", "Bearer " + token)
+                            .header("Content-Type", "application/json")
+                            .POST(HttpRequest.BodyPublishers.ofString(String.format(
+                                    "{\"serviceId\":%d,\"latitude\":%.7f,\"longitude\":%.7f}",
+                                    serviceId, latitude, longitude))));
+                    send(httpClient, metrics.get(MY_ATTENDANCES), HttpRequest.newBuilder()
+                            .uri(URI.create(baseUrl + "/api/attendance/my"))
+                            .header("Authorization", "Bearer " + token)
+                            .GET());
+                } finally {
+                    done.countDown();
+                }
+            }), arrivalMillis, TimeUnit.MILLISECONDS);
+        }
+        
+        done.await(windowSeconds + 300L, TimeUnit.SECONDS);
+        arrivals.shutdownNow();
+        workers.shutdownNow();
+    }
+    
+    private static void send(HttpClient httpClient, LoadTestMetrics metric, HttpRequest.Builder request) {
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(
+                    request.timeout(Duration.ofSeconds(30)).build(),
+                    HttpResponse.BodyHandlers.ofString());
+            metric.record(System.nanoTime() - startedAt, response.statusCode());
+        } catch (Exception e) {
+            metric.recordFailure(System.nanoTime() - startedAt);
+        }
+    }
+    
+    /**
+     * 교인 수만큼 요청이 모두 성공했는지 확인 (4xx/5xx 응답, 연결 실패, 시간 내 보내지 못한 요청이 있으면 실패)
+     */
+    private static boolean checkErrors(List<Map<String, Object>> results, int members) {
+        boolean passed = true;
+        for (Map<String, Object> result : results) {
+            long success = (long) result.get("success");
+            if (success < members) {
+                System.out.printf("오류 응답 발생: %s (교인 %d명 중 성공 %d건, 요청 %d건)%n",
+                        result.get("request"), members, success, (int) result.get("count"));
+                passed = false;
+            }
+        }
+        return passed;
+    }
+    
+    /**
+     * 요청당 평균 SQL 실행 횟수가 허용치 이내인지 확인
+     */
+    private static boolean checkQueryBudgets(List<Map<String, Object>> results) {
+        boolean passed = true;
+        for (Map<String, Object> result : results) {
+            Double budget = QUERY_BUDGETS.get((String) result.get("request"));
+            double actual = (double) result.get("queriesPerRequest");
+            if (budget != null && actual > budget) {
+                System.out.printf("SQL 허용치 초과: %s (요청당 %.2f건, 허용 %.2f건)%n",
+                        result.get("request"), actual, budget);
+                passed = false;
+            }
+        }
+        return passed;
+    }
+    
+    private static void printReport(List<Map<String, Object>> results) {
+        System.out.println();
+        System.out.printf("%-30s %7s %9s %9s %9s %9s %9s %9s%n",
+                "request", "count", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "errors", "sql/req");
+        for (Map<String, Object> result : results) {
+            long errors = (long) result.get("clientErrors") + (long) result.get("serverErrors");
+            System.out.printf("%-30s %7d %9.2f %9.2f %9.2f %9.2f %9d %9.2f%n",
+                    result.get("request"),
+                    (int) result.get("count"),
+                    (double) result.get("throughputPerSec"),
+                    (double) result.get("p50Ms"),
+                    (double) result.get("p90Ms"),
+                    (double) result.get("p99Ms"),
+                    errors,
+                    (double) result.get("queriesPerRequest"));
+        }
+    }
+}
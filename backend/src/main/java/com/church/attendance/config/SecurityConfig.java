@@ -2,17 +2,24 @@ package com.church.attendance.config;
 
 import com.church.attendance.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.security.authentication.AuthenticationManager;
-import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
@@ -27,8 +34,36 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
     
+    private static final String METRICS_ROLE = "METRICS";
+    
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     
+    /**
+     * Prometheus 수집 엔드포인트는 수집 전용 계정의 HTTP Basic 인증으로 보호
+     * (metrics.scrape.password 를 설정하지 않으면 모든 요청 거부)
+     */
+    @Bean
+    @Order(1)
+    public SecurityFilterChain metricsFilterChain(HttpSecurity http,
+                                                  @Value("${metrics.scrape.username:prometheus}") String username,
+                                                  @Value("${metrics.scrape.password:}") String password) throws Exception {
+        http
+            .securityMatcher("/actuator/prometheus")
+            .csrf(csrf -> csrf.disable())
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .authenticationManager(new ProviderManager(metricsAuthenticationProvider(username, password)))
+            .authorizeHttpRequests(auth -> {
+                if (password.isEmpty()) {
+                    auth.anyRequest().denyAll();
+                } else {
+                    auth.anyRequest().hasRole(METRICS_ROLE);
+                }
+            })
+            .httpBasic(Customizer.withDefaults());
+        
+        return http.build();
+    }
+    
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
@@ -37,9 +72,14 @@ public class SecurityConfig {
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/api/auth/**").permitAll()
+                .requestMatchers("/actuator/health").permitAll()
                 .requestMatchers("/api/admin/**").hasRole("ADMIN")
                 .anyRequest().authenticated()
             )
+            // 토큰이 없거나 만료되면 401 (클라이언트가 리프레시 토큰으로 갱신 후 재시도)
+            .exceptionHandling(exceptions -> exceptions
+                .authenticationEntryPoint(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED))
+            )
             .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
         
         return http.build();
@@ -61,14 +101,26 @@ public class SecurityConfig {
         return source;
     }
     
+    /**
+     * BCrypt 비용은 설정값으로 조정 (기존 해시는 로그인 성공 시 새 비용으로 다시 저장됨)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.password.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
     
-    @Bean
-    public AuthenticationManager authenticationManager(AuthenticationConfiguration config) throws Exception {
-        return config.getAuthenticationManager();
+    /**
+     * 수집 계정 인증 (JWT 사용자 조회와 섞이지 않도록 빈으로 등록하지 않음)
+     */
+    private static DaoAuthenticationProvider metricsAuthenticationProvider(String username, String password) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(new InMemoryUserDetailsManager(
+                org.springframework.security.core.userdetails.User.withUsername(username)
+                        .password("{noop}" + password)
+                        .roles(METRICS_ROLE)
+                        .build()));
+        provider.setPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return provider;
     }
 }
 
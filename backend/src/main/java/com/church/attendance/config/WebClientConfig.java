@@ -1,9 +1,17 @@
 package com.church.attendance.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 public class WebClientConfig {
@@ -13,9 +21,31 @@ public class WebClientConfig {
         return WebClient.builder();
     }
     
+    /**
+     * 네이버 API 공용 클라이언트
+     * 연결을 재사용하고, 연결/응답 대기 시간을 제한하여 네이버가 느려도 요청이 오래 묶이지 않도록 함
+     */
     @Bean
-    public ObjectMapper objectMapper() {
-        return new ObjectMapper();
+    public WebClient naverWebClient(WebClient.Builder webClientBuilder,
+                                    @Value("${naver.user-info-url}") String userInfoUrl,
+                                    @Value("${naver.client.max-connections:50}") int maxConnections,
+                                    @Value("${naver.client.connect-timeout-ms:2000}") int connectTimeoutMillis,
+                                    @Value("${naver.client.response-timeout-ms:3000}") long responseTimeoutMillis) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("naver")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .evictInBackground(Duration.ofSeconds(60))
+                .build();
+        
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMillis)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMillis));
+        
+        return webClientBuilder.clone()
+                .baseUrl(userInfoUrl)
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
     }
 }
-
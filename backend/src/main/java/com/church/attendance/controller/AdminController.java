@@ -1,14 +1,23 @@
 package com.church.attendance.controller;
 
+import com.church.attendance.dto.CacheStatsResponse;
 import com.church.attendance.dto.PendingUserRequest;
 import com.church.attendance.dto.PendingUserResponse;
+import com.church.attendance.dto.UserAttendanceStatsResponse;
+import com.church.attendance.security.JwtTokenProvider;
+import com.church.attendance.security.UserPrincipalCache;
+import com.church.attendance.service.AttendanceAdmissionCache;
+import com.church.attendance.service.AttendanceVersionTracker;
+import com.church.attendance.service.NaverOAuthService;
 import com.church.attendance.service.PendingUserService;
+import com.church.attendance.service.UserAttendanceStatsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @RestController
@@ -18,6 +27,12 @@ import java.util.List;
 public class AdminController {
     
     private final PendingUserService pendingUserService;
+    private final UserPrincipalCache principalCache;
+    private final JwtTokenProvider tokenProvider;
+    private final NaverOAuthService naverOAuthService;
+    private final UserAttendanceStatsService statsService;
+    private final AttendanceAdmissionCache admissionCache;
+    private final AttendanceVersionTracker versionTracker;
     
     /**
      * 사전 등록 추가
@@ -46,5 +61,41 @@ public class AdminController {
         pendingUserService.deletePendingUser(id);
         return ResponseEntity.noContent().build();
     }
+    
+    /**
+     * 캐시 사용 현황 조회
+     */
+    @GetMapping("/cache-stats")
+    public ResponseEntity<List<CacheStatsResponse>> getCacheStats() {
+        List<CacheStatsResponse> stats = new ArrayList<>();
+        stats.add(principalCache.getStats());
+        if (tokenProvider.getVerifiedTokenCacheStats() != null) {
+            stats.add(tokenProvider.getVerifiedTokenCacheStats());
+        }
+        stats.add(naverOAuthService.getProfileCacheStats());
+        stats.add(admissionCache.getUserCacheStats());
+        stats.add(versionTracker.getStats());
+        return ResponseEntity.ok(stats);
+    }
+    
+    /**
+     * 전체 사용자 출석 통계 조회
+     * 
+     * @param weeks 출석률 계산 기간 (주, 최대 64)
+     */
+    @GetMapping("/attendance-stats")
+    public ResponseEntity<List<UserAttendanceStatsResponse>> getAttendanceStats(
+            @RequestParam(defaultValue = "12") int weeks) {
+        List<UserAttendanceStatsResponse> stats = statsService.getAllStats(weeks);
+        return ResponseEntity.ok(stats);
+    }
+    
+    /**
+     * 전체 사용자 출석 통계 재계산
+     */
+    @PostMapping("/attendance-stats/rebuild")
+    public ResponseEntity<Void> rebuildAttendanceStats() {
+        statsService.rebuildAll();
+        return ResponseEntity.noContent().build();
+    }
 }
-
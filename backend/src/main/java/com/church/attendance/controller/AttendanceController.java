@@ -1,14 +1,27 @@
 package com.church.attendance.controller;
 
 import com.church.attendance.dto.AttendanceCheckRequest;
+import com.church.attendance.dto.AttendancePageResponse;
 import com.church.attendance.dto.AttendanceResponse;
+import com.church.attendance.dto.ServiceHeadcountResponse;
+import com.church.attendance.dto.UserAttendanceStatsResponse;
+import com.church.attendance.service.AttendanceEventBroadcaster;
 import com.church.attendance.service.AttendanceService;
+import com.church.attendance.service.ServiceAttendanceCounterService;
+import com.church.attendance.service.UserAttendanceStatsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -17,6 +30,14 @@ import java.util.List;
 public class AttendanceController {
     
     private final AttendanceService attendanceService;
+    private final ServiceAttendanceCounterService counterService;
+    private final AttendanceEventBroadcaster eventBroadcaster;
+    private final UserAttendanceStatsService statsService;
+
+    /**
+     * 브라우저/앱이 저장은 하되 매번 ETag 로 변경 여부를 확인하도록 함
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
     
     /**
      * 출석 체크
@@ -29,11 +50,28 @@ public class AttendanceController {
     
     /**
      * 내 출석 기록 조회
+     * If-None-Match 가 현재 ETag 와 같으면 기록을 조회하지 않고 304 응답
      */
     @GetMapping("/my")
-    public ResponseEntity<List<AttendanceResponse>> getMyAttendances() {
+    public ResponseEntity<List<AttendanceResponse>> getMyAttendances(WebRequest webRequest) {
+        String etag = attendanceService.getMyAttendancesETag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         List<AttendanceResponse> attendances = attendanceService.getMyAttendances();
-        return ResponseEntity.ok(attendances);
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag).body(attendances);
+    }
+    
+    /**
+     * 내 출석 통계 조회
+     * 
+     * @param weeks 출석률 계산 기간 (주, 최대 64)
+     */
+    @GetMapping("/my/stats")
+    public ResponseEntity<UserAttendanceStatsResponse> getMyStats(
+            @RequestParam(defaultValue = "12") int weeks) {
+        UserAttendanceStatsResponse stats = statsService.getMyStats(weeks);
+        return ResponseEntity.ok(stats);
     }
     
     /**
@@ -46,6 +84,37 @@ public class AttendanceController {
         return ResponseEntity.ok(attendances);
     }
     
+    /**
+     * 특정 예배의 결석자 조회 (관리자)
+     */
+    @GetMapping("/service/{serviceId}/absent")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<AttendanceResponse>> getAbsentAttendances(@PathVariable Long serviceId) {
+        List<AttendanceResponse> attendances = attendanceService.getAbsentAttendances(serviceId);
+        return ResponseEntity.ok(attendances);
+    }
+    
+    /**
+     * 특정 예배의 출석 현황 조회 (관리자)
+     * 출석/지각/결석/미출석 인원을 집계 테이블에서 바로 조회
+     */
+    @GetMapping("/service/{serviceId}/headcount")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ServiceHeadcountResponse> getServiceHeadcount(@PathVariable Long serviceId) {
+        ServiceHeadcountResponse headcount = counterService.getHeadcount(serviceId);
+        return ResponseEntity.ok(headcount);
+    }
+    
+    /**
+     * 특정 예배의 실시간 출석 이벤트 구독 (관리자, Server-Sent Events)
+     * attendance: 출석 체크 1건, auto-late: 자동 지각 처리 결과
+     */
+    @GetMapping(value = "/service/{serviceId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public SseEmitter subscribeServiceEvents(@PathVariable Long serviceId) {
+        return eventBroadcaster.subscribe(serviceId);
+    }
+    
     /**
      * 모든 출석 기록 조회 (관리자)
      */
@@ -55,5 +124,30 @@ public class AttendanceController {
         List<AttendanceResponse> attendances = attendanceService.getAllAttendances();
         return ResponseEntity.ok(attendances);
     }
+    
+    /**
+     * 전체 출석 기록 페이지 조회 (관리자)
+     * 최신순, 다음 페이지는 응답의 nextCheckedAt/nextId 를 beforeCheckedAt/beforeId 로 전달
+     */
+    @GetMapping("/all/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AttendancePageResponse> getAttendancePage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeCheckedAt,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "100") int size) {
+        AttendancePageResponse page = attendanceService.getAttendancePage(beforeCheckedAt, beforeId, size);
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * 전체 출석 기록 스트리밍 조회 (관리자, NDJSON)
+     */
+    @GetMapping(value = "/all/stream", produces = "application/x-ndjson")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllAttendances() {
+        StreamingResponseBody body = attendanceService::streamAllAttendances;
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
 }
-
@@ -3,12 +3,14 @@ package com.church.attendance.controller;
 import com.church.attendance.dto.AuthResponse;
 import com.church.attendance.dto.LoginRequest;
 import com.church.attendance.dto.NaverLoginRequest;
+import com.church.attendance.dto.RefreshTokenRequest;
 import com.church.attendance.dto.RegisterRequest;
 import com.church.attendance.service.AuthService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -29,10 +31,30 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
     
-    @PostMapping("/naver/login")
-    public ResponseEntity<AuthResponse> naverLogin(@Valid @RequestBody NaverLoginRequest request) {
-        AuthResponse response = authService.naverLogin(request);
+    /**
+     * 액세스 토큰 갱신 (비밀번호 확인 없이 리프레시 토큰으로 새 토큰 발급, 리프레시 토큰도 새로 발급됨)
+     */
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        AuthResponse response = authService.refresh(request);
         return ResponseEntity.ok(response);
     }
+    
+    /**
+     * 로그아웃 (리프레시 토큰 폐기)
+     */
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        authService.logout(request);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * 네이버 로그인 (네이버 응답을 기다리는 동안 요청 스레드를 반환하는 비동기 처리)
+     */
+    @PostMapping("/naver/login")
+    public Mono<ResponseEntity<AuthResponse>> naverLogin(@Valid @RequestBody NaverLoginRequest request) {
+        return authService.naverLogin(request).map(ResponseEntity::ok);
+    }
 }
 
@@ -0,0 +1,48 @@
+package com.church.attendance.controller;
+
+import com.church.attendance.dto.AttendanceTrendResponse;
+import com.church.attendance.entity.AttendanceTrendBucket;
+import com.church.attendance.entity.Service;
+import com.church.attendance.service.AttendanceTrendService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/reports")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class ReportController {
+    
+    private final AttendanceTrendService trendService;
+    
+    /**
+     * 기간별 출석 추이 조회
+     * 
+     * @param period WEEK 또는 MONTH
+     * @param type 예배 유형 (생략 시 전체 유형)
+     */
+    @GetMapping("/trends")
+    public ResponseEntity<List<AttendanceTrendResponse>> getTrends(
+            @RequestParam(defaultValue = "WEEK") AttendanceTrendBucket.Period period,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Service.ServiceType type) {
+        List<AttendanceTrendResponse> trends = trendService.getTrends(period, from, to, type);
+        return ResponseEntity.ok(trends);
+    }
+    
+    /**
+     * 출석 추이 집계 전체 재생성
+     */
+    @PostMapping("/trends/rebuild")
+    public ResponseEntity<Void> rebuildTrends() {
+        trendService.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -1,11 +1,16 @@
 package com.church.attendance.controller;
 
+import com.church.attendance.dto.ServicePageResponse;
 import com.church.attendance.dto.ServiceResponse;
 import com.church.attendance.service.ServiceService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -15,31 +20,76 @@ public class ServiceController {
     
     private final ServiceService serviceService;
     
+    /**
+     * 브라우저/앱이 저장은 하되 매번 ETag 로 변경 여부를 확인하도록 함
+     */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    
     /**
      * 활성화된 예배 목록 조회
      */
     @GetMapping
-    public ResponseEntity<List<ServiceResponse>> getActiveServices() {
+    public ResponseEntity<List<ServiceResponse>> getActiveServices(WebRequest webRequest) {
         List<ServiceResponse> services = serviceService.getActiveServices();
-        return ResponseEntity.ok(services);
+        return conditional(webRequest, services);
     }
     
     /**
      * 다가오는 다음 예배 조회
      */
     @GetMapping("/next")
-    public ResponseEntity<ServiceResponse> getNextService() {
+    public ResponseEntity<ServiceResponse> getNextService(WebRequest webRequest) {
         ServiceResponse service = serviceService.getNextService();
-        return ResponseEntity.ok(service);
+        String etag = serviceService.getCalendarETag(List.of(service)) + "-" + service.getId();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag).body(service);
+    }
+    
+    /**
+     * 기간 내 예배 조회
+     */
+    @GetMapping("/range")
+    public ResponseEntity<List<ServiceResponse>> getServicesBetween(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            WebRequest webRequest) {
+        List<ServiceResponse> services = serviceService.getServicesBetween(from, to);
+        return conditional(webRequest, services);
     }
     
     /**
-     * 모든 예배 조회 (관리자)
+     * 모든 예배 조회 (관리자, 최근 history-days 일 이후)
      */
     @GetMapping("/all")
-    public ResponseEntity<List<ServiceResponse>> getAllServices() {
+    public ResponseEntity<List<ServiceResponse>> getAllServices(WebRequest webRequest) {
         List<ServiceResponse> services = serviceService.getAllServices();
-        return ResponseEntity.ok(services);
+        return conditional(webRequest, services);
+    }
+    
+    /**
+     * 그 이전 예배 페이지 조회 (관리자)
+     * 최신순, 다음 페이지는 응답의 nextServiceTime/nextId 를 beforeServiceTime/beforeId 로 전달
+     */
+    @GetMapping("/all/history")
+    public ResponseEntity<ServicePageResponse> getServiceHistoryPage(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime beforeServiceTime,
+            @RequestParam(required = false) Long beforeId,
+            @RequestParam(defaultValue = "100") int size) {
+        ServicePageResponse page = serviceService.getServiceHistoryPage(beforeServiceTime, beforeId, size);
+        return ResponseEntity.ok(page);
+    }
+    
+    /**
+     * If-None-Match 가 현재 ETag 와 같으면 본문 없이 304 응답
+     */
+    private ResponseEntity<List<ServiceResponse>> conditional(WebRequest webRequest, List<ServiceResponse> services) {
+        String etag = serviceService.getCalendarETag(services);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok().cacheControl(REVALIDATE).eTag(etag).body(services);
     }
 }
 
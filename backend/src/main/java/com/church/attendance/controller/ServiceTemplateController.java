@@ -0,0 +1,90 @@
+package com.church.attendance.controller;
+
+import com.church.attendance.dto.ServiceResponse;
+import com.church.attendance.dto.ServiceTemplateExceptionRequest;
+import com.church.attendance.dto.ServiceTemplateRequest;
+import com.church.attendance.dto.ServiceTemplateResponse;
+import com.church.attendance.service.ServiceTemplateService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/service-templates")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class ServiceTemplateController {
+    
+    private final ServiceTemplateService templateService;
+    
+    /**
+     * 정기 예배 템플릿 목록 조회 (예외 일정 포함)
+     */
+    @GetMapping
+    public ResponseEntity<List<ServiceTemplateResponse>> getTemplates() {
+        List<ServiceTemplateResponse> templates = templateService.getTemplates();
+        return ResponseEntity.ok(templates);
+    }
+    
+    /**
+     * 정기 예배 템플릿 추가
+     */
+    @PostMapping
+    public ResponseEntity<ServiceTemplateResponse> createTemplate(@Valid @RequestBody ServiceTemplateRequest request) {
+        ServiceTemplateResponse template = templateService.createTemplate(request);
+        return ResponseEntity.ok(template);
+    }
+    
+    /**
+     * 정기 예배 템플릿 수정 (아직 시작하지 않은 예배에 반영)
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<ServiceTemplateResponse> updateTemplate(
+            @PathVariable Long id,
+            @Valid @RequestBody ServiceTemplateRequest request) {
+        ServiceTemplateResponse template = templateService.updateTemplate(id, request);
+        return ResponseEntity.ok(template);
+    }
+    
+    /**
+     * 정기 예배 템플릿 비활성화
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deactivateTemplate(@PathVariable Long id) {
+        templateService.deactivateTemplate(id);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * 예외 일정 추가/수정 (예배 없음 또는 시간 변경)
+     */
+    @PostMapping("/{id}/exceptions")
+    public ResponseEntity<ServiceTemplateResponse> saveException(
+            @PathVariable Long id,
+            @Valid @RequestBody ServiceTemplateExceptionRequest request) {
+        ServiceTemplateResponse template = templateService.saveException(id, request);
+        return ResponseEntity.ok(template);
+    }
+    
+    /**
+     * 예외 일정 삭제
+     */
+    @DeleteMapping("/{id}/exceptions/{exceptionId}")
+    public ResponseEntity<Void> deleteException(@PathVariable Long id, @PathVariable Long exceptionId) {
+        templateService.deleteException(id, exceptionId);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * 기간 내 예배 즉시 생성
+     */
+    @PostMapping("/generate")
+    public ResponseEntity<List<ServiceResponse>> generateServices() {
+        List<ServiceResponse> services = templateService.generateNow();
+        return ResponseEntity.ok(services);
+    }
+}
@@ -0,0 +1,59 @@
+package com.church.attendance.controller;
+
+import com.church.attendance.dto.VenueRequest;
+import com.church.attendance.dto.VenueResponse;
+import com.church.attendance.service.GeofenceService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/admin/venues")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('ADMIN')")
+public class VenueController {
+    
+    private final GeofenceService geofenceService;
+    
+    /**
+     * 출석 장소 목록 조회
+     */
+    @GetMapping
+    public ResponseEntity<List<VenueResponse>> getVenues() {
+        List<VenueResponse> venues = geofenceService.getVenues();
+        return ResponseEntity.ok(venues);
+    }
+    
+    /**
+     * 출석 장소 추가 (원 또는 다각형)
+     */
+    @PostMapping
+    public ResponseEntity<VenueResponse> createVenue(@Valid @RequestBody VenueRequest request) {
+        VenueResponse venue = geofenceService.createVenue(request);
+        return ResponseEntity.ok(venue);
+    }
+    
+    /**
+     * 출석 장소 수정
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<VenueResponse> updateVenue(
+            @PathVariable Long id,
+            @Valid @RequestBody VenueRequest request) {
+        VenueResponse venue = geofenceService.updateVenue(id, request);
+        return ResponseEntity.ok(venue);
+    }
+    
+    /**
+     * 출석 장소 비활성화
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deactivateVenue(@PathVariable Long id) {
+        geofenceService.deactivateVenue(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.church.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 출석 기록 페이지 (checkedAt, id 기준 키셋 페이지네이션)
+ * 다음 페이지는 nextCheckedAt, nextId 를 beforeCheckedAt, beforeId 로 전달하여 조회
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendancePageResponse {
+    private List<AttendanceResponse> items;
+    private boolean hasNext;
+    private LocalDateTime nextCheckedAt;
+    private Long nextId;
+}
@@ -25,6 +25,16 @@ public class AttendanceResponse {
     private LocalDateTime checkedAt;
     private String notes;
     
+    /**
+     * JPQL 생성자 표현식용 (사용자/예배 이름을 같은 쿼리에서 조회)
+     */
+    public AttendanceResponse(Long id, Long userId, String userName, Long serviceId, String serviceName,
+                              Attendance.AttendanceStatus status, Double latitude, Double longitude,
+                              Double distance, LocalDateTime checkedAt, String notes) {
+        this(id, userId, userName, serviceId, serviceName, status.name(),
+             latitude, longitude, distance, checkedAt, notes);
+    }
+    
     public static AttendanceResponse from(Attendance attendance) {
         return AttendanceResponse.builder()
                 .id(attendance.getId())
@@ -0,0 +1,40 @@
+package com.church.attendance.dto;
+
+import com.church.attendance.entity.AttendanceTrendBucket;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AttendanceTrendResponse {
+    private String period;
+    private LocalDate bucketStart;
+    private String serviceType;
+    private long services;
+    private long present;
+    private long late;
+    private long absent;
+    private long expected;
+    private double attendanceRate;  // (출석 + 지각) / 대상 인원
+    
+    public static AttendanceTrendResponse from(AttendanceTrendBucket bucket) {
+        long attended = bucket.getPresentCount() + bucket.getLateCount();
+        return AttendanceTrendResponse.builder()
+                .period(bucket.getPeriod().name())
+                .bucketStart(bucket.getBucketStart())
+                .serviceType(bucket.getServiceType().name())
+                .services(bucket.getServiceCount())
+                .present(bucket.getPresentCount())
+                .late(bucket.getLateCount())
+                .absent(bucket.getAbsentCount())
+                .expected(bucket.getExpectedCount())
+                .attendanceRate(bucket.getExpectedCount() > 0 ? (double) attended / bucket.getExpectedCount() : 0)
+                .build();
+    }
+}
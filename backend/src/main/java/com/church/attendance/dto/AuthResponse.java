@@ -12,6 +12,8 @@ import lombok.NoArgsConstructor;
 public class AuthResponse {
     private String token;
     private String type = "Bearer";
+    private Long expiresIn;        // 액세스 토큰 유효 시간 (초)
+    private String refreshToken;   // 액세스 토큰 만료 시 /api/auth/refresh 로 갱신
     private Long userId;
     private String username;
     private String name;
@@ -0,0 +1,27 @@
+package com.church.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 자동 지각 처리 결과
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AutoLateResult {
+    private Long serviceId;
+    private int insertedCount;   // 생성된 지각 기록 수
+    private long elapsedMillis;  // 처리 소요 시간(밀리초)
+    
+    public static AutoLateResult skipped(Long serviceId) {
+        return AutoLateResult.builder()
+                .serviceId(serviceId)
+                .insertedCount(0)
+                .elapsedMillis(0)
+                .build();
+    }
+}
@@ -0,0 +1,11 @@
+package com.church.attendance.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class RefreshTokenRequest {
+    
+    @NotBlank(message = "리프레시 토큰은 필수입니다")
+    private String refreshToken;
+}
@@ -0,0 +1,31 @@
+package com.church.attendance.dto;
+
+import com.church.attendance.entity.ServiceAttendanceCounter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceHeadcountResponse {
+    private Long serviceId;
+    private long present;
+    private long late;
+    private long absent;
+    private long expected;
+    private long remaining;
+    
+    public static ServiceHeadcountResponse from(ServiceAttendanceCounter counter, long expected) {
+        return ServiceHeadcountResponse.builder()
+                .serviceId(counter.getServiceId())
+                .present(counter.getPresentCount())
+                .late(counter.getLateCount())
+                .absent(counter.getAbsentCount())
+                .expected(expected)
+                .remaining(counter.remainingOf(expected))
+                .build();
+    }
+}
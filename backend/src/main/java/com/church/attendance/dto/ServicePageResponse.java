@@ -0,0 +1,24 @@
+package com.church.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 지난 예배 페이지 (serviceTime, id 기준 키셋 페이지네이션)
+ * 다음 페이지는 nextServiceTime, nextId 를 beforeServiceTime, beforeId 로 전달하여 조회
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServicePageResponse {
+    private List<ServiceResponse> items;
+    private boolean hasNext;
+    private LocalDateTime nextServiceTime;
+    private Long nextId;
+}
@@ -1,6 +1,7 @@
 package com.church.attendance.dto;
 
 import com.church.attendance.entity.Service;
+import com.church.attendance.service.ServiceCalendar;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -30,6 +31,15 @@ public class ServiceResponse {
                 .canCheckAttendance(canCheckAttendance)
                 .build();
     }
+    
+    public static ServiceResponse from(ServiceCalendar.Entry service, Boolean canCheckAttendance) {
+        return ServiceResponse.builder()
+                .id(service.getId())
+                .name(service.getName())
+                .serviceTime(service.getServiceTime())
+                .type(service.getType())
+                .active(service.isActive())
+                .canCheckAttendance(canCheckAttendance)
+                .build();
+    }
 }
-
-
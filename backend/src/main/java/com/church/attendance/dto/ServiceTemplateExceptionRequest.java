@@ -0,0 +1,22 @@
+package com.church.attendance.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+public class ServiceTemplateExceptionRequest {
+    
+    @NotNull(message = "날짜는 필수입니다")
+    private LocalDate date;
+    
+    private boolean skip;  // true 면 해당 날짜 예배 없음
+    
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime overrideTime;  // 시간 변경 (skip 이 false 일 때 필수)
+    
+    private String reason;
+}
@@ -0,0 +1,33 @@
+package com.church.attendance.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+public class ServiceTemplateRequest {
+    
+    @NotBlank(message = "예배 이름은 필수입니다")
+    private String name;
+    
+    @NotNull(message = "예배 유형은 필수입니다")
+    private String type;  // SUNDAY, WEDNESDAY, FRIDAY, SPECIAL
+    
+    @NotNull(message = "요일은 필수입니다")
+    private DayOfWeek dayOfWeek;  // SUNDAY, MONDAY, ...
+    
+    @NotNull(message = "시작 시간은 필수입니다")
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTime;
+    
+    private LocalDate validFrom;
+    
+    private LocalDate validUntil;
+    
+    private Boolean active;
+}
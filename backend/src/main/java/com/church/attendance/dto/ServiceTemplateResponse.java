@@ -0,0 +1,70 @@
+package com.church.attendance.dto;
+
+import com.church.attendance.entity.ServiceTemplate;
+import com.church.attendance.entity.ServiceTemplateException;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ServiceTemplateResponse {
+    private Long id;
+    private String name;
+    private String type;
+    private String dayOfWeek;
+    @JsonFormat(pattern = "HH:mm")
+    private LocalTime startTime;
+    private LocalDate validFrom;
+    private LocalDate validUntil;
+    private Boolean active;
+    private List<ExceptionResponse> exceptions;
+    
+    public static ServiceTemplateResponse from(ServiceTemplate template, List<ServiceTemplateException> exceptions) {
+        return ServiceTemplateResponse.builder()
+                .id(template.getId())
+                .name(template.getName())
+                .type(template.getType().name())
+                .dayOfWeek(template.getDayOfWeek().name())
+                .startTime(template.getStartTime())
+                .validFrom(template.getValidFrom())
+                .validUntil(template.getValidUntil())
+                .active(template.getActive())
+                .exceptions(exceptions.stream()
+                        .map(ExceptionResponse::from)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ExceptionResponse {
+        private Long id;
+        private LocalDate date;
+        private boolean skip;
+        @JsonFormat(pattern = "HH:mm")
+        private LocalTime overrideTime;
+        private String reason;
+        
+        public static ExceptionResponse from(ServiceTemplateException exception) {
+            return ExceptionResponse.builder()
+                    .id(exception.getId())
+                    .date(exception.getExceptionDate())
+                    .skip(exception.isSkip())
+                    .overrideTime(exception.getOverrideTime())
+                    .reason(exception.getReason())
+                    .build();
+        }
+    }
+}
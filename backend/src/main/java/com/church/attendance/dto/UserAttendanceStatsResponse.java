@@ -0,0 +1,49 @@
+package com.church.attendance.dto;
+
+import com.church.attendance.entity.UserAttendanceStats;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserAttendanceStatsResponse {
+    private Long userId;
+    private String userName;
+    private long present;
+    private long late;
+    private long absent;
+    private LocalDateTime lastAttendedAt;
+    private int currentStreakWeeks;  // 연속 출석 주 수
+    private int weeks;  // 출석률 계산 기간 (주)
+    private double attendanceRate;  // 최근 weeks 주 중 출석한 주의 비율 (0~1)
+    
+    public static UserAttendanceStatsResponse from(Long userId, String userName, UserAttendanceStats stats,
+                                                   LocalDate today, int weeks) {
+        if (stats == null) {
+            return UserAttendanceStatsResponse.builder()
+                    .userId(userId)
+                    .userName(userName)
+                    .weeks(weeks)
+                    .build();
+        }
+        
+        return UserAttendanceStatsResponse.builder()
+                .userId(userId)
+                .userName(userName)
+                .present(stats.getPresentCount())
+                .late(stats.getLateCount())
+                .absent(stats.getAbsentCount())
+                .lastAttendedAt(stats.getLastAttendedAt())
+                .currentStreakWeeks(stats.currentStreak(today))
+                .weeks(weeks)
+                .attendanceRate(stats.attendanceRate(today, weeks))
+                .build();
+    }
+}
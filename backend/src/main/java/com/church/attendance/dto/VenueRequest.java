@@ -0,0 +1,40 @@
+package com.church.attendance.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class VenueRequest {
+    
+    @NotBlank(message = "장소 이름은 필수입니다")
+    private String name;
+    
+    @NotNull(message = "영역 유형은 필수입니다")
+    private String shape;  // CIRCLE, POLYGON
+    
+    private Double latitude;  // 원의 중심 (CIRCLE 일 때 필수)
+    
+    private Double longitude;
+    
+    private Double radius;  // 원의 반경 (미터, CIRCLE 일 때 필수)
+    
+    @Valid
+    private List<Point> polygon;  // 다각형 꼭짓점 (POLYGON 일 때 3개 이상)
+    
+    private Long serviceId;  // 특정 예배에만 적용 (null 이면 모든 예배)
+    
+    private Boolean active;
+    
+    @Data
+    public static class Point {
+        @NotNull(message = "위도는 필수입니다")
+        private Double latitude;
+        
+        @NotNull(message = "경도는 필수입니다")
+        private Double longitude;
+    }
+}
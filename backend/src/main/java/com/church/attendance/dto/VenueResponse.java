@@ -0,0 +1,58 @@
+package com.church.attendance.dto;
+
+import com.church.attendance.entity.Venue;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class VenueResponse {
+    private Long id;
+    private String name;
+    private String shape;
+    private Double latitude;
+    private Double longitude;
+    private Double radius;
+    private List<VenueRequest.Point> polygon;
+    private Long serviceId;
+    private Boolean active;
+    
+    public static VenueResponse from(Venue venue) {
+        return VenueResponse.builder()
+                .id(venue.getId())
+                .name(venue.getName())
+                .shape(venue.getShape().name())
+                .latitude(venue.getLatitude())
+                .longitude(venue.getLongitude())
+                .radius(venue.getRadius())
+                .polygon(parsePolygon(venue.getPolygon()))
+                .serviceId(venue.getServiceId())
+                .active(venue.getActive())
+                .build();
+    }
+    
+    /**
+     * "위도,경도;위도,경도;..." 형식의 다각형 꼭짓점 변환
+     */
+    public static List<VenueRequest.Point> parsePolygon(String polygon) {
+        List<VenueRequest.Point> points = new ArrayList<>();
+        if (polygon == null || polygon.isBlank()) {
+            return points;
+        }
+        for (String vertex : polygon.split(";")) {
+            String[] coordinates = vertex.split(",");
+            VenueRequest.Point point = new VenueRequest.Point();
+            point.setLatitude(Double.parseDouble(coordinates[0].trim()));
+            point.setLongitude(Double.parseDouble(coordinates[1].trim()));
+            points.add(point);
+        }
+        return points;
+    }
+}
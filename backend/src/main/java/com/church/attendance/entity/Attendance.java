@@ -9,7 +9,11 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "attendance", 
-       uniqueConstraints = @UniqueConstraint(columnNames = {"user_id", "service_id"}))
+       uniqueConstraints = @UniqueConstraint(name = "uk_user_service", columnNames = {"user_id", "service_id"}),
+       indexes = {
+               @Index(name = "idx_attendance_checked_at", columnList = "checked_at, id"),
+               @Index(name = "idx_attendance_service_status", columnList = "service_id, status")
+       })
 @Getter
 @Setter
 @NoArgsConstructor
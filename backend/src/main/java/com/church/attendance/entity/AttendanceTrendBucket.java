@@ -0,0 +1,60 @@
+package com.church.attendance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+
+/**
+ * 기간(주/월)별, 예배 유형별 출석 집계
+ * 예배가 종료되면 예배별 집계를 해당 주/월 구간에 더하여 추이 조회 시 출석 기록을 다시 읽지 않음
+ */
+@Entity
+@Table(name = "attendance_trend_buckets",
+       uniqueConstraints = @UniqueConstraint(name = "uk_trend_bucket", columnNames = {"period", "bucket_start", "service_type"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AttendanceTrendBucket {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Period period;
+    
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;  // 구간 시작일 (주: 일요일, 월: 1일)
+    
+    @Enumerated(EnumType.STRING)
+    @Column(name = "service_type", nullable = false, length = 20)
+    private Service.ServiceType serviceType;
+    
+    @Column(nullable = false)
+    private long serviceCount;  // 집계된 예배 수
+    
+    @Column(nullable = false)
+    private long presentCount;
+    
+    @Column(nullable = false)
+    private long lateCount;
+    
+    @Column(nullable = false)
+    private long absentCount;
+    
+    @Column(nullable = false)
+    private long expectedCount;  // 예배별 대상 인원 합계
+    
+    public enum Period {
+        WEEK,
+        MONTH;
+        
+        public LocalDate bucketStartOf(LocalDate date) {
+            return this == WEEK ? UserAttendanceStats.weekStartOf(date) : date.withDayOfMonth(1);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.church.attendance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 (원문은 저장하지 않고 SHA-256 해시만 보관)
+ * 
+ * 같은 로그인에서 이어진 토큰은 familyId 를 공유하며, 갱신할 때마다 이전 토큰은 폐기되고 replacedById 로 다음 토큰을 가리킴
+ * 이미 폐기된 토큰이 다시 사용되면 탈취로 보고 같은 family 전체를 폐기
+ */
+@Entity
+@Table(name = "refresh_tokens",
+       uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "token_hash"),
+       indexes = {
+               @Index(name = "idx_refresh_token_family", columnList = "family_id"),
+               @Index(name = "idx_refresh_token_user", columnList = "user_id"),
+               @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+       })
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefreshToken {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+    
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;  // 최초 로그인 시 생성, 갱신된 토큰이 이어받음
+    
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+    
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    private LocalDateTime revokedAt;  // 갱신 또는 로그아웃으로 폐기된 시간
+    
+    private Long replacedById;  // 갱신으로 발급된 다음 토큰
+}
@@ -0,0 +1,36 @@
+package com.church.attendance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄러 작업 잠금 (여러 서버 중 한 곳에서만 실행)
+ * 잠금을 얻을 때마다 fencingToken 이 증가하므로 임대 시간이 지난 이전 실행자의 쓰기를 구분할 수 있음
+ */
+@Entity
+@Table(name = "scheduler_locks")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SchedulerLock {
+    
+    @Id
+    @Column(length = 100)
+    private String name;  // 작업 이름
+    
+    @Column(nullable = false, length = 150)
+    private String owner;  // 마지막으로 잠금을 얻은 서버
+    
+    @Column(nullable = false)
+    private long fencingToken;
+    
+    @Column(nullable = false)
+    private LocalDateTime leaseUntil;  // 임대 만료 시간
+    
+    @Column(nullable = false)
+    private LocalDateTime acquiredAt;
+}
@@ -6,10 +6,13 @@ import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "services")
+@Table(name = "services",
+       uniqueConstraints = @UniqueConstraint(name = "uk_service_template_occurrence", columnNames = {"template_id", "occurrence_date"}),
+       indexes = @Index(name = "idx_service_time", columnList = "service_time"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -35,6 +38,16 @@ public class Service {
     @Column(nullable = false)
     private Boolean active = true;
     
+    @Column(name = "template_id")
+    private Long templateId;  // 정기 예배 템플릿으로 생성된 경우 템플릿 ID
+    
+    @Column(name = "occurrence_date")
+    private LocalDate occurrenceDate;  // 템플릿 기준 예배 날짜 (시간 변경 예외가 있어도 유지)
+    
+    private LocalDateTime lateProcessedAt;  // 자동 지각 처리 완료 시간 (처리 전이면 null)
+    
+    private LocalDateTime closedAt;  // 결석 처리 완료 시간 (종료 전이면 null)
+    
     @CreatedDate
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
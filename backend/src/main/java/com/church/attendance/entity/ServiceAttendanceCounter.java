@@ -0,0 +1,51 @@
+package com.church.attendance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예배별 출석 집계
+ * 출석 기록이 생성될 때마다 증가시켜 출석 현황을 재집계 없이 조회
+ */
+@Entity
+@Table(name = "service_attendance_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ServiceAttendanceCounter {
+    
+    @Id
+    @Column(name = "service_id")
+    private Long serviceId;
+    
+    @Column(nullable = false)
+    private long presentCount;  // 정상 출석 수
+    
+    @Column(nullable = false)
+    private long lateCount;  // 지각 수
+    
+    @Column(nullable = false)
+    private long absentCount;  // 결석 수
+    
+    private Long expectedCount;  // 예배 종료 시점의 활성 일반 사용자 수 (종료 전이면 null, 조회 시 현재 인원 사용)
+    
+    private LocalDateTime rolledUpAt;  // 기간별 추이 집계 반영 시간 (미반영이면 null)
+    
+    /**
+     * 대상 인원 (종료 전이면 현재 활성 일반 사용자 수)
+     */
+    public long expectedOr(long activeUsers) {
+        return expectedCount != null ? expectedCount : activeUsers;
+    }
+    
+    /**
+     * 아직 출석 기록이 없는 인원
+     */
+    public long remainingOf(long expected) {
+        return Math.max(0, expected - presentCount - lateCount - absentCount);
+    }
+}
@@ -0,0 +1,70 @@
+package com.church.attendance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 정기 예배 템플릿 (매주 같은 요일, 같은 시간)
+ * 설정된 기간(horizon)만큼 앞으로의 예배를 미리 생성
+ */
+@Entity
+@Table(name = "service_templates")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class ServiceTemplate {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false, length = 100)
+    private String name;  // 예: "주일 예배", 생성 시 "주일 예배 (2025-11-23)"
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Service.ServiceType type;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private DayOfWeek dayOfWeek;
+    
+    @Column(nullable = false)
+    private LocalTime startTime;
+    
+    private LocalDate validFrom;  // 적용 시작일 (null 이면 제한 없음)
+    
+    private LocalDate validUntil;  // 적용 종료일 (null 이면 제한 없음)
+    
+    @Builder.Default
+    @Column(nullable = false)
+    private Boolean active = true;
+    
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    /**
+     * 해당 날짜에 예배가 있는 템플릿인지 확인 (예외 제외)
+     */
+    public boolean occursOn(LocalDate date) {
+        return date.getDayOfWeek() == dayOfWeek
+                && (validFrom == null || !date.isBefore(validFrom))
+                && (validUntil == null || !date.isAfter(validUntil));
+    }
+}
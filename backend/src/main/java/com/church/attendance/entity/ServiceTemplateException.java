@@ -0,0 +1,40 @@
+package com.church.attendance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * 정기 예배 템플릿 예외 (특정 날짜 예배 없음 또는 시간 변경)
+ */
+@Entity
+@Table(name = "service_template_exceptions",
+       uniqueConstraints = @UniqueConstraint(name = "uk_template_exception_date", columnNames = {"template_id", "exception_date"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ServiceTemplateException {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "template_id", nullable = false)
+    private ServiceTemplate template;
+    
+    @Column(name = "exception_date", nullable = false)
+    private LocalDate exceptionDate;
+    
+    @Column(nullable = false)
+    private boolean skip;  // true 면 해당 날짜 예배 없음
+    
+    private LocalTime overrideTime;  // 시간 변경 (skip 이 false 일 때)
+    
+    @Column(length = 200)
+    private String reason;
+}
@@ -1,5 +1,6 @@
 package com.church.attendance.entity;
 
+import com.church.attendance.security.UserCacheInvalidationListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
@@ -15,7 +16,7 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, UserCacheInvalidationListener.class})
 public class User {
     
     @Id
@@ -0,0 +1,138 @@
+package com.church.attendance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+
+/**
+ * 사용자별 출석 통계
+ * 출석 기록이 생성될 때마다 갱신하여 전체 기록을 다시 집계하지 않고 조회
+ * 
+ * 최근 출석 주는 비트마스크로 보관 (비트 0 = maskWeekStart 주, 비트 i = i주 전)
+ * 반영한 출석 기록의 마지막 ID(appliedAttendanceId)를 함께 두어 그보다 큰 ID 의 기록만 더함
+ */
+@Entity
+@Table(name = "user_attendance_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserAttendanceStats {
+    
+    public static final int MAX_WEEKS = 64;
+    
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+    
+    @Column(nullable = false)
+    private long presentCount;  // 정상 출석 수
+    
+    @Column(nullable = false)
+    private long lateCount;  // 지각 수
+    
+    @Column(nullable = false)
+    private long absentCount;  // 결석 수
+    
+    private LocalDateTime lastAttendedAt;  // 마지막 출석(정상/지각) 시간
+    
+    @Column(nullable = false)
+    private long recentWeeksMask;  // 최근 64주 출석 여부
+    
+    private LocalDate maskWeekStart;  // 비트 0 에 해당하는 주의 시작일 (일요일)
+    
+    @Column(nullable = false)
+    private long appliedAttendanceId;  // 통계에 반영한 마지막 출석 기록 ID
+    
+    /**
+     * 출석 기록 1건 반영
+     */
+    public void record(long attendanceId, Attendance.AttendanceStatus status, LocalDateTime checkedAt) {
+        appliedAttendanceId = Math.max(appliedAttendanceId, attendanceId);
+        switch (status) {
+            case PRESENT:
+                presentCount++;
+                break;
+            case LATE:
+                lateCount++;
+                break;
+            default:
+                absentCount++;
+                return;
+        }
+        
+        if (lastAttendedAt == null || checkedAt.isAfter(lastAttendedAt)) {
+            lastAttendedAt = checkedAt;
+        }
+        markWeek(checkedAt.toLocalDate());
+    }
+    
+    /**
+     * 출석한 주 표시 (횟수는 변경하지 않음)
+     */
+    public void markWeek(LocalDate date) {
+        LocalDate week = weekStartOf(date);
+        if (maskWeekStart == null) {
+            maskWeekStart = week;
+        } else if (week.isAfter(maskWeekStart)) {
+            recentWeeksMask = shift(recentWeeksMask, ChronoUnit.WEEKS.between(maskWeekStart, week));
+            maskWeekStart = week;
+        }
+        
+        long index = ChronoUnit.WEEKS.between(week, maskWeekStart);
+        if (index < MAX_WEEKS) {
+            recentWeeksMask |= 1L << index;
+        }
+    }
+    
+    /**
+     * 기준일이 속한 주를 비트 0 으로 맞춘 출석 마스크
+     */
+    public long maskAsOf(LocalDate today) {
+        if (maskWeekStart == null) {
+            return 0;
+        }
+        LocalDate week = weekStartOf(today);
+        if (!week.isAfter(maskWeekStart)) {
+            return recentWeeksMask;
+        }
+        return shift(recentWeeksMask, ChronoUnit.WEEKS.between(maskWeekStart, week));
+    }
+    
+    /**
+     * 연속 출석 주 수 (이번 주에 아직 출석하지 않았으면 지난 주부터 계산)
+     */
+    public int currentStreak(LocalDate today) {
+        long mask = maskAsOf(today);
+        if ((mask & 1L) == 0) {
+            mask >>>= 1;
+        }
+        return Long.numberOfTrailingZeros(~mask);
+    }
+    
+    /**
+     * 최근 N주 중 출석한 주의 비율 (이번 주 포함)
+     */
+    public double attendanceRate(LocalDate today, int weeks) {
+        int window = Math.max(1, Math.min(weeks, MAX_WEEKS));
+        long mask = maskAsOf(today);
+        if (window < MAX_WEEKS) {
+            mask &= (1L << window) - 1;
+        }
+        return (double) Long.bitCount(mask) / window;
+    }
+    
+    public static LocalDate weekStartOf(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.SUNDAY));
+    }
+    
+    private static long shift(long mask, long weeks) {
+        return weeks >= MAX_WEEKS ? 0 : mask << weeks;
+    }
+}
@@ -0,0 +1,65 @@
+package com.church.attendance.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 출석 체크 가능 장소 (본당, 지교회, 별도 예배 장소 등)
+ * 원(중심 + 반경) 또는 다각형 영역으로 지정하며, 특정 예배에만 적용할 수 있음
+ */
+@Entity
+@Table(name = "venues")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EntityListeners(AuditingEntityListener.class)
+public class Venue {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false, length = 100)
+    private String name;  // 예: "본당", "제2교육관"
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Shape shape;
+    
+    @Column(nullable = false)
+    private Double latitude;  // 원의 중심 (다각형은 꼭짓점 평균)
+    
+    @Column(nullable = false)
+    private Double longitude;
+    
+    private Double radius;  // 원의 반경 (미터)
+    
+    @Column(columnDefinition = "TEXT")
+    private String polygon;  // 다각형 꼭짓점 "위도,경도;위도,경도;..."
+    
+    private Long serviceId;  // 적용 예배 (null 이면 모든 예배)
+    
+    @Builder.Default
+    @Column(nullable = false)
+    private Boolean active = true;
+    
+    @CreatedDate
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+    
+    @LastModifiedDate
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+    
+    public enum Shape {
+        CIRCLE,   // 원
+        POLYGON   // 다각형
+    }
+}
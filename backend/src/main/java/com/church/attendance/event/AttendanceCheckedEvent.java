@@ -0,0 +1,15 @@
+package com.church.attendance.event;
+
+import com.church.attendance.dto.AttendanceResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 출석 체크 완료 이벤트 (트랜잭션 커밋 후 전달)
+ */
+@Getter
+@AllArgsConstructor
+public class AttendanceCheckedEvent {
+    private final Long serviceId;
+    private final AttendanceResponse attendance;
+}
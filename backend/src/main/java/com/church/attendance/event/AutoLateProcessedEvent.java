@@ -0,0 +1,15 @@
+package com.church.attendance.event;
+
+import com.church.attendance.dto.AutoLateResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 자동 지각 처리 완료 이벤트 (트랜잭션 커밋 후 전달)
+ */
+@Getter
+@AllArgsConstructor
+public class AutoLateProcessedEvent {
+    private final Long serviceId;
+    private final AutoLateResult result;
+}
@@ -0,0 +1,13 @@
+package com.church.attendance.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예배 생성/수정 이벤트 (트랜잭션 커밋 후 전달)
+ */
+@Getter
+@AllArgsConstructor
+public class ServiceChangedEvent {
+    private final Long serviceId;
+}
@@ -0,0 +1,13 @@
+package com.church.attendance.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 예배 종료(결석 처리 완료) 이벤트 (트랜잭션 커밋 후 전달)
+ */
+@Getter
+@AllArgsConstructor
+public class ServiceClosedEvent {
+    private final Long serviceId;
+}
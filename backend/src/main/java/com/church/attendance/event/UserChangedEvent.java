@@ -0,0 +1,13 @@
+package com.church.attendance.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 수정/삭제 이벤트 (트랜잭션 커밋 후 전달)
+ */
+@Getter
+@AllArgsConstructor
+public class UserChangedEvent {
+    private final String username;
+}
@@ -0,0 +1,13 @@
+package com.church.attendance.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 출석 장소 생성/수정 이벤트 (트랜잭션 커밋 후 전달)
+ */
+@Getter
+@AllArgsConstructor
+public class VenueChangedEvent {
+    private final Long venueId;
+}
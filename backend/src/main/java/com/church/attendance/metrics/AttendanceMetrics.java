@@ -0,0 +1,159 @@
+package com.church.attendance.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 출석 체크, 로그인, 스케줄러 실행 지표
+ * 
+ * - attendance.check.stage{stage}: 출석 체크 단계별 소요 시간
+ * - attendance.check{result}: 출석 체크 전체 소요 시간
+ * - attendance.check.rejected{reason}: 거절 사유별 건수
+ * - auth.login{method, outcome}: 로그인 소요 시간
+ * - naver.user-info{outcome}: 네이버 사용자 정보 조회 소요 시간 (success, failure, rejected, cache_hit)
+ * - scheduler.run{job}, scheduler.affected.rows{job}: 스케줄러 실행 시간 및 처리 건수
+ * - scheduler.lock{job, outcome}: 스케줄러 잠금 획득/건너뜀/만료 건수
+ * - attendance.closing.chunk, attendance.closing.absent.rows, attendance.closing.progress: 결석 처리 구간별 소요 시간, 생성 건수, 진행률
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceMetrics {
+    
+    public static final String STAGE_USER_LOOKUP = "user_lookup";
+    public static final String STAGE_SERVICE_LOOKUP = "service_lookup";
+    public static final String STAGE_DUPLICATE_CHECK = "duplicate_check";
+    public static final String STAGE_GEOFENCE = "geofence";
+    public static final String STAGE_INSERT = "insert";
+    
+    public static final String REJECT_TOO_EARLY = "too_early";
+    public static final String REJECT_OUTSIDE_RADIUS = "outside_radius";
+    public static final String REJECT_DUPLICATE = "duplicate";
+    public static final String REJECT_INACTIVE_SERVICE = "inactive_service";
+    
+    private final MeterRegistry meterRegistry;
+    private final AtomicReference<Double> closingProgress = new AtomicReference<>(0.0);
+    
+    /**
+     * 단계 소요 시간 기록
+     * 
+     * @param startedAt 단계 시작 시각 (System.nanoTime)
+     * @return 현재 시각 (다음 단계의 시작 시각으로 사용)
+     */
+    public long recordStage(String stage, long startedAt) {
+        long now = System.nanoTime();
+        Timer.builder("attendance.check.stage")
+                .tag("stage", stage)
+                .register(meterRegistry)
+                .record(now - startedAt, TimeUnit.NANOSECONDS);
+        return now;
+    }
+    
+    public void recordCheck(String result, long startedAt) {
+        Timer.builder("attendance.check")
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * 거절 건수 기록 후 예외 반환 (throw metrics.reject(...) 형태로 사용)
+     */
+    public RuntimeException reject(String reason, String message) {
+        Counter.builder("attendance.check.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        return new RuntimeException(message);
+    }
+    
+    /**
+     * 로그인 소요 시간 기록
+     */
+    public <T> T timeLogin(String method, Supplier<T> login) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            T result = login.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("auth.login")
+                    .tag("method", method)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+    
+    /**
+     * 로그인 소요 시간 기록 (비동기 로그인 완료 시)
+     */
+    public void recordLogin(String method, String outcome, long startedAt) {
+        Timer.builder("auth.login")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * 네이버 사용자 정보 조회 결과 기록
+     * 
+     * @param outcome success, failure, rejected(차단기 열림), cache_hit
+     */
+    public void recordNaverCall(String outcome, long startedAt) {
+        Timer.builder("naver.user-info")
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+    
+    /**
+     * 스케줄러 1회 실행 결과 기록
+     */
+    public void recordSchedulerRun(String job, long startedAt, long affectedRows) {
+        Timer.builder("scheduler.run")
+                .tag("job", job)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        Counter.builder("scheduler.affected.rows")
+                .tag("job", job)
+                .register(meterRegistry)
+                .increment(affectedRows);
+    }
+    
+    /**
+     * 스케줄러 잠금 결과 기록
+     * 
+     * @param outcome acquired, skipped, lost
+     */
+    public void recordSchedulerLock(String job, String outcome) {
+        Counter.builder("scheduler.lock")
+                .tag("job", job)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+    
+    /**
+     * 결석 처리 구간 1건 결과 기록
+     * 
+     * @param progress 현재 예배의 진행률 (0~1)
+     */
+    public void recordClosingChunk(long startedAt, long insertedRows, double progress) {
+        Timer.builder("attendance.closing.chunk")
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        Counter.builder("attendance.closing.absent.rows")
+                .register(meterRegistry)
+                .increment(insertedRows);
+        closingProgress.set(progress);
+        meterRegistry.gauge("attendance.closing.progress", closingProgress, AtomicReference::get);
+    }
+}
@@ -0,0 +1,56 @@
+package com.church.attendance.metrics;
+
+import com.church.attendance.dto.CacheStatsResponse;
+import com.church.attendance.security.JwtTokenProvider;
+import com.church.attendance.security.UserPrincipalCache;
+import com.church.attendance.service.AttendanceWriteBehindQueue;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * 메모리 캐시 및 지연 저장 큐 지표 등록
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheMetricsBinder implements MeterBinder {
+    
+    private final UserPrincipalCache principalCache;
+    private final JwtTokenProvider tokenProvider;
+    private final AttendanceWriteBehindQueue writeBehindQueue;
+    
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCache(registry, "principal", principalCache, UserPrincipalCache::getStats);
+        if (tokenProvider.getVerifiedTokenCacheStats() != null) {
+            bindCache(registry, "verified-token", tokenProvider, JwtTokenProvider::getVerifiedTokenCacheStats);
+        }
+        
+        Gauge.builder("attendance.write_behind.queue.size", writeBehindQueue, AttendanceWriteBehindQueue::getQueueSize)
+                .register(registry);
+    }
+    
+    /**
+     * 캐시 통계 등록 (Spring 빈을 기준 객체로 사용하여 약한 참조로 인한 수집 누락 방지)
+     */
+    private <T> void bindCache(MeterRegistry registry, String name, T owner,
+                               Function<T, CacheStatsResponse> stats) {
+        Gauge.builder("app.cache.size", owner, o -> stats.apply(o).getSize())
+                .tag("cache", name)
+                .register(registry);
+        FunctionCounter.builder("app.cache.hits", owner, o -> stats.apply(o).getHits())
+                .tag("cache", name)
+                .register(registry);
+        FunctionCounter.builder("app.cache.misses", owner, o -> stats.apply(o).getMisses())
+                .tag("cache", name)
+                .register(registry);
+        FunctionCounter.builder("app.cache.evictions", owner, o -> stats.apply(o).getEvictions())
+                .tag("cache", name)
+                .register(registry);
+    }
+}
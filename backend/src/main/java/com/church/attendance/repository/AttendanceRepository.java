@@ -1,15 +1,23 @@
 package com.church.attendance.repository;
 
+import com.church.attendance.dto.AttendanceResponse;
 import com.church.attendance.entity.Attendance;
 import com.church.attendance.entity.User;
 import com.church.attendance.entity.Service;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
@@ -28,11 +36,144 @@ public interface AttendanceRepository extends JpaRepository<Attendance, Long> {
     @Query("SELECT a FROM Attendance a WHERE a.service = :service ORDER BY a.checkedAt DESC")
     List<Attendance> findByServiceOrderByCheckedAtDesc(Service service);
     
+    /**
+     * 출석 응답 DTO 프로젝션 (사용자/예배 이름을 조인으로 함께 조회하여 N+1 방지)
+     */
+    String RESPONSE_PROJECTION =
+            "SELECT new com.church.attendance.dto.AttendanceResponse(" +
+            "a.id, u.id, u.name, s.id, s.name, a.status, a.latitude, a.longitude, a.distance, a.checkedAt, a.notes) " +
+            "FROM Attendance a JOIN a.user u JOIN a.service s ";
+    
+    @Query(RESPONSE_PROJECTION + "WHERE u.id = :userId ORDER BY a.checkedAt DESC")
+    List<AttendanceResponse> findResponsesByUserId(Long userId);
+    
+    @Query(RESPONSE_PROJECTION + "WHERE s.id = :serviceId ORDER BY a.checkedAt DESC")
+    List<AttendanceResponse> findResponsesByServiceId(Long serviceId);
+    
+    @Query(RESPONSE_PROJECTION + "ORDER BY a.checkedAt DESC, a.id DESC")
+    List<AttendanceResponse> findAllResponses();
+    
+    /**
+     * 최신순 첫 페이지
+     */
+    @Query(RESPONSE_PROJECTION + "ORDER BY a.checkedAt DESC, a.id DESC")
+    List<AttendanceResponse> findLatestPage(Pageable pageable);
+    
+    /**
+     * 키셋 페이지네이션: (checkedAt, id) 가 커서보다 이전인 기록을 최신순으로 조회
+     */
+    @Query(RESPONSE_PROJECTION +
+           "WHERE a.checkedAt < :checkedAt OR (a.checkedAt = :checkedAt AND a.id < :id) " +
+           "ORDER BY a.checkedAt DESC, a.id DESC")
+    List<AttendanceResponse> findPageBefore(LocalDateTime checkedAt, Long id, Pageable pageable);
+    
+    /**
+     * 전체 출석 기록 순방향 스트림 (fetch size 단위로 DB 커서에서 읽음)
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(RESPONSE_PROJECTION + "ORDER BY a.checkedAt DESC, a.id DESC")
+    Stream<AttendanceResponse> streamAll();
+    
+    @Query("SELECT a.user.id FROM Attendance a WHERE a.service.id = :serviceId")
+    List<Long> findUserIdsByServiceId(Long serviceId);
+    
+    /**
+     * 사용자별 상태별 출석 수와 최대 기록 ID (통계 재계산용)
+     * 
+     * @return [userId, status, count, maxId]
+     */
+    @Query("SELECT a.user.id, a.status, COUNT(a), MAX(a.id) FROM Attendance a WHERE a.user.id IN :userIds " +
+           "GROUP BY a.user.id, a.status")
+    List<Object[]> countByUserIdsGroupByStatus(Collection<Long> userIds);
+    
+    /**
+     * 기준 시간 이후 출석(정상/지각) 시간 (통계 재계산용)
+     * 
+     * @return [userId, checkedAt]
+     */
+    @Query("SELECT a.user.id, a.checkedAt FROM Attendance a WHERE a.user.id IN :userIds " +
+           "AND a.status <> 'ABSENT' AND a.checkedAt >= :since")
+    List<Object[]> findAttendedTimesSince(Collection<Long> userIds, LocalDateTime since);
+    
+    /**
+     * 사용자별 마지막 출석(정상/지각) 시간 (통계 재계산용)
+     * 
+     * @return [userId, lastAttendedAt]
+     */
+    @Query("SELECT a.user.id, MAX(a.checkedAt) FROM Attendance a WHERE a.user.id IN :userIds " +
+           "AND a.status <> 'ABSENT' GROUP BY a.user.id")
+    List<Object[]> findLastAttendedByUserIds(Collection<Long> userIds);
+    
+    /**
+     * 사용자 출석 기록 수와 최대 ID (내 출석 기록 ETag 용, 기록은 추가만 되므로 둘 중 하나가 바뀌면 목록이 바뀜)
+     * 
+     * @return [[count, maxId]]
+     */
+    @Query("SELECT COUNT(a), COALESCE(MAX(a.id), 0) FROM Attendance a WHERE a.user.id = :userId")
+    List<Object[]> findUserFingerprint(Long userId);
+    
     @Query("SELECT COUNT(a) FROM Attendance a WHERE a.user = :user AND a.status = 'PRESENT'")
     long countPresentByUser(User user);
     
     @Query("SELECT COUNT(a) FROM Attendance a WHERE a.user = :user AND a.status = 'LATE'")
     long countLateByUser(User user);
+    
+    /**
+     * 예배에 출석 기록이 없는 활성 일반 사용자에게 지각 기록을 일괄 생성
+     * (users 와 attendance 의 anti-join 결과를 한 번의 INSERT ... SELECT 로 저장)
+     * 동시에 커밋된 출석 기록과 겹치면 uk_user_service 제약으로 해당 행만 무시되고 나머지는 저장됨
+     * 
+     * @return 생성된 출석 기록 수
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO attendance (user_id, service_id, status, latitude, longitude, distance, checked_at, notes) " +
+                   "SELECT u.id, :serviceId, 'LATE', :latitude, :longitude, 0, :checkedAt, :notes " +
+                   "FROM users u " +
+                   "WHERE u.active = true AND u.role = 'USER' " +
+                   "AND NOT EXISTS (SELECT 1 FROM attendance a WHERE a.user_id = u.id AND a.service_id = :serviceId)",
+           nativeQuery = true)
+    int insertLateForMissingUsers(Long serviceId, double latitude, double longitude,
+                                  LocalDateTime checkedAt, String notes);
+    
+    /**
+     * 사용자 ID 구간(fromUserId 초과 toUserId 이하) 내 출석 기록이 없는 활성 일반 사용자에게 결석 기록을 일괄 생성
+     * 동시에 생성된 출석 기록과 겹치면 uk_user_service 제약으로 무시되므로 다시 실행해도 안전
+     * 
+     * @return 생성된 결석 기록 수
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO attendance (user_id, service_id, status, latitude, longitude, distance, checked_at, notes) " +
+                   "SELECT u.id, :serviceId, 'ABSENT', :latitude, :longitude, 0, :checkedAt, :notes " +
+                   "FROM users u " +
+                   "WHERE u.id > :fromUserId AND u.id <= :toUserId " +
+                   "AND u.active = true AND u.role = 'USER' " +
+                   "AND NOT EXISTS (SELECT 1 FROM attendance a WHERE a.user_id = u.id AND a.service_id = :serviceId)",
+           nativeQuery = true)
+    int insertAbsentForMissingUsers(Long serviceId, long fromUserId, long toUserId,
+                                    double latitude, double longitude, LocalDateTime checkedAt, String notes);
+    
+    /**
+     * 사용자별 통계에 아직 반영되지 않은 출석 기록 (appliedAttendanceId 보다 큰 ID, ID 순)
+     * 통계 행을 먼저 잠근 뒤 호출하므로 기록 행은 잠그지 않음
+     * 
+     * @return [id, userId, serviceId, status, checkedAt]
+     */
+    @Query("SELECT a.id, a.user.id, a.service.id, a.status, a.checkedAt " +
+           "FROM Attendance a, UserAttendanceStats s " +
+           "WHERE s.userId = a.user.id AND s.userId IN :userIds AND a.id > s.appliedAttendanceId " +
+           "ORDER BY a.id")
+    List<Object[]> findUnappliedByUserIds(Collection<Long> userIds);
+    
+    /**
+     * 예배 출석 기록 중 사용자 통계에 아직 반영되지 않은 사용자 ID (통계 행이 없는 사용자 포함)
+     */
+    @Query("SELECT a.user.id FROM Attendance a LEFT JOIN UserAttendanceStats s ON s.userId = a.user.id " +
+           "WHERE a.service.id = :serviceId AND (s.userId IS NULL OR a.id > s.appliedAttendanceId)")
+    List<Long> findUnappliedUserIdsByServiceId(Long serviceId);
+    
+    @Query("SELECT a.user.id FROM Attendance a WHERE a.service.id = :serviceId AND a.user.id IN :userIds")
+    List<Long> findUserIdsByServiceIdAndUserIds(Long serviceId, Collection<Long> userIds);
+    
+    @Query(RESPONSE_PROJECTION + "WHERE s.id = :serviceId AND a.status = :status ORDER BY u.name")
+    List<AttendanceResponse> findResponsesByServiceIdAndStatus(Long serviceId, Attendance.AttendanceStatus status);
 }
-
-
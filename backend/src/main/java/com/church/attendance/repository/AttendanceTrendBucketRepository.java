@@ -0,0 +1,45 @@
+package com.church.attendance.repository;
+
+import com.church.attendance.entity.AttendanceTrendBucket;
+import com.church.attendance.entity.Service;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface AttendanceTrendBucketRepository extends JpaRepository<AttendanceTrendBucket, Long> {
+    
+    /**
+     * 예배 1건의 집계를 구간에 더함 (구간이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO attendance_trend_buckets " +
+                   "(period, bucket_start, service_type, service_count, present_count, late_count, absent_count, expected_count) " +
+                   "VALUES (:period, :bucketStart, :serviceType, 1, :present, :late, :absent, :expected) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "service_count = service_count + 1, " +
+                   "present_count = present_count + :present, " +
+                   "late_count = late_count + :late, " +
+                   "absent_count = absent_count + :absent, " +
+                   "expected_count = expected_count + :expected",
+           nativeQuery = true)
+    int addService(String period, LocalDate bucketStart, String serviceType,
+                   long present, long late, long absent, long expected);
+    
+    @Query("SELECT b FROM AttendanceTrendBucket b WHERE b.period = :period " +
+           "AND b.bucketStart BETWEEN :from AND :to ORDER BY b.bucketStart, b.serviceType")
+    List<AttendanceTrendBucket> findRange(AttendanceTrendBucket.Period period, LocalDate from, LocalDate to);
+    
+    @Query("SELECT b FROM AttendanceTrendBucket b WHERE b.period = :period AND b.serviceType = :serviceType " +
+           "AND b.bucketStart BETWEEN :from AND :to ORDER BY b.bucketStart")
+    List<AttendanceTrendBucket> findRangeByType(AttendanceTrendBucket.Period period, Service.ServiceType serviceType,
+                                                LocalDate from, LocalDate to);
+    
+    @Modifying
+    @Query("DELETE FROM AttendanceTrendBucket")
+    int deleteAllBuckets();
+}
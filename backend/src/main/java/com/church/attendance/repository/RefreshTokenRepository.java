@@ -0,0 +1,48 @@
+package com.church.attendance.repository;
+
+import com.church.attendance.entity.RefreshToken;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+    
+    /**
+     * 아직 폐기되지 않은 토큰만 폐기 (동시에 같은 토큰으로 갱신하면 한 요청만 성공)
+     * 
+     * @return 폐기된 토큰 수 (0 이면 이미 폐기된 토큰)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.id = :id AND r.revokedAt IS NULL")
+    int revokeIfActive(Long id, LocalDateTime now);
+    
+    /**
+     * 잠금 조회 (다른 트랜잭션이 커밋한 최신 값을 읽음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM RefreshToken r WHERE r.id = :id")
+    Optional<RefreshToken> findForUpdate(Long id);
+    
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.replacedById = :replacedById WHERE r.id = :id")
+    int markReplaced(Long id, Long replacedById);
+    
+    @Modifying
+    @Query("UPDATE RefreshToken r SET r.revokedAt = :now WHERE r.familyId = :familyId AND r.revokedAt IS NULL")
+    int revokeFamily(String familyId, LocalDateTime now);
+    
+    /**
+     * 만료된 토큰 삭제 (폐기된 토큰도 만료 시각까지는 재사용 감지를 위해 보관)
+     */
+    @Modifying
+    @Query("DELETE FROM RefreshToken r WHERE r.expiresAt < :before")
+    int deleteExpired(LocalDateTime before);
+}
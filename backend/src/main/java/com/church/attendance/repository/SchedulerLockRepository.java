@@ -0,0 +1,73 @@
+package com.church.attendance.repository;
+
+import com.church.attendance.entity.SchedulerLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface SchedulerLockRepository extends JpaRepository<SchedulerLock, String> {
+    
+    /**
+     * 처음 실행되는 작업의 잠금 생성
+     * 
+     * @return 생성되었으면 1, 이미 있으면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO scheduler_locks (name, owner, fencing_token, lease_until, acquired_at) " +
+                   "VALUES (:name, :owner, 1, :leaseUntil, :now)",
+           nativeQuery = true)
+    int insertIfAbsent(String name, String owner, LocalDateTime leaseUntil, LocalDateTime now);
+    
+    /**
+     * 임대가 만료된 잠금 획득 (fencing token 증가)
+     * 
+     * @return 획득했으면 1, 다른 서버가 보유 중이면 0
+     */
+    @Modifying
+    @Query(value = "UPDATE scheduler_locks SET owner = :owner, fencing_token = fencing_token + 1, " +
+                   "lease_until = :leaseUntil, acquired_at = :now " +
+                   "WHERE name = :name AND lease_until <= :now",
+           nativeQuery = true)
+    int acquireExpired(String name, String owner, LocalDateTime leaseUntil, LocalDateTime now);
+    
+    /**
+     * 임대 연장 (이미 다른 서버가 가져갔으면 0)
+     */
+    @Modifying
+    @Query(value = "UPDATE scheduler_locks SET lease_until = :leaseUntil " +
+                   "WHERE name = :name AND owner = :owner AND fencing_token = :token",
+           nativeQuery = true)
+    int renew(String name, String owner, long token, LocalDateTime leaseUntil);
+    
+    /**
+     * 작업 종료 후 임대 반납 (leaseUntil 이 지나면 다른 서버가 획득 가능)
+     */
+    @Modifying
+    @Query(value = "UPDATE scheduler_locks SET lease_until = :leaseUntil " +
+                   "WHERE name = :name AND owner = :owner AND fencing_token = :token",
+           nativeQuery = true)
+    int release(String name, String owner, long token, LocalDateTime leaseUntil);
+    
+    @Query(value = "SELECT fencing_token FROM scheduler_locks WHERE name = :name", nativeQuery = true)
+    Long findToken(String name);
+    
+    /**
+     * 현재 fencing token 조회 후 트랜잭션 종료까지 행 잠금
+     * (다른 서버의 잠금 획득이 이 트랜잭션의 커밋 이후로 미뤄짐)
+     */
+    @Query(value = "SELECT fencing_token FROM scheduler_locks WHERE name = :name FOR UPDATE", nativeQuery = true)
+    Long lockToken(String name);
+    
+    /**
+     * 더 이상 실행하지 않을 작업의 잠금 삭제 (임대 중인 잠금은 남김)
+     * 
+     * @return 삭제되었으면 1
+     */
+    @Modifying
+    @Query(value = "DELETE FROM scheduler_locks WHERE name = :name AND lease_until <= :now", nativeQuery = true)
+    int deleteExpired(String name, LocalDateTime now);
+}
@@ -0,0 +1,74 @@
+package com.church.attendance.repository;
+
+import com.church.attendance.entity.ServiceAttendanceCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface ServiceAttendanceCounterRepository extends JpaRepository<ServiceAttendanceCounter, Long> {
+    
+    @Modifying
+    @Query("UPDATE ServiceAttendanceCounter c SET c.presentCount = c.presentCount + :delta WHERE c.serviceId = :serviceId")
+    int incrementPresent(Long serviceId, long delta);
+    
+    @Modifying
+    @Query("UPDATE ServiceAttendanceCounter c SET c.lateCount = c.lateCount + :delta WHERE c.serviceId = :serviceId")
+    int incrementLate(Long serviceId, long delta);
+    
+    @Modifying
+    @Query("UPDATE ServiceAttendanceCounter c SET c.absentCount = c.absentCount + :delta WHERE c.serviceId = :serviceId")
+    int incrementAbsent(Long serviceId, long delta);
+    
+    /**
+     * 출석 기록을 집계하여 예배 집계 생성 (이미 있으면 무시, 대상 인원은 예배 종료 시 기록)
+     * 
+     * @return 생성되었으면 1, 이미 있었으면 0
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO service_attendance_counters " +
+                   "(service_id, present_count, late_count, absent_count) " +
+                   "SELECT :serviceId, " +
+                   "COALESCE(SUM(CASE WHEN a.status = 'PRESENT' THEN 1 ELSE 0 END), 0), " +
+                   "COALESCE(SUM(CASE WHEN a.status = 'LATE' THEN 1 ELSE 0 END), 0), " +
+                   "COALESCE(SUM(CASE WHEN a.status = 'ABSENT' THEN 1 ELSE 0 END), 0) " +
+                   "FROM attendance a WHERE a.service_id = :serviceId",
+           nativeQuery = true)
+    int initializeFromAttendance(Long serviceId);
+    
+    /**
+     * 예배 종료 시점의 활성 일반 사용자 수를 대상 인원으로 기록
+     */
+    @Modifying
+    @Query(value = "UPDATE service_attendance_counters " +
+                   "SET expected_count = (SELECT COUNT(*) FROM users u WHERE u.active = true AND u.role = 'USER') " +
+                   "WHERE service_id = :serviceId",
+           nativeQuery = true)
+    int fixExpectedCount(Long serviceId);
+    
+    /**
+     * 출석 기록 기준으로 예배 집계 재계산
+     */
+    @Modifying
+    @Query(value = "UPDATE service_attendance_counters SET " +
+                   "present_count = (SELECT COUNT(*) FROM attendance a WHERE a.service_id = :serviceId AND a.status = 'PRESENT'), " +
+                   "late_count = (SELECT COUNT(*) FROM attendance a WHERE a.service_id = :serviceId AND a.status = 'LATE'), " +
+                   "absent_count = (SELECT COUNT(*) FROM attendance a WHERE a.service_id = :serviceId AND a.status = 'ABSENT') " +
+                   "WHERE service_id = :serviceId",
+           nativeQuery = true)
+    int refreshFromAttendance(Long serviceId);
+    
+    /**
+     * 기간별 추이 집계 반영 표시 (이미 반영되었으면 0)
+     */
+    @Modifying
+    @Query("UPDATE ServiceAttendanceCounter c SET c.rolledUpAt = :rolledUpAt WHERE c.serviceId = :serviceId AND c.rolledUpAt IS NULL")
+    int markRolledUp(Long serviceId, LocalDateTime rolledUpAt);
+    
+    @Modifying
+    @Query("UPDATE ServiceAttendanceCounter c SET c.rolledUpAt = NULL")
+    int clearRolledUp();
+}
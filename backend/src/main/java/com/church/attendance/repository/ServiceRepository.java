@@ -1,13 +1,15 @@
 package com.church.attendance.repository;
 
 import com.church.attendance.entity.Service;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface ServiceRepository extends JpaRepository<Service, Long> {
@@ -16,19 +18,82 @@ public interface ServiceRepository extends JpaRepository<Service, Long> {
     @Query("SELECT s FROM Service s WHERE s.active = true AND s.serviceTime BETWEEN :start AND :end")
     List<Service> findActiveServicesBetween(LocalDateTime start, LocalDateTime end);
     
-    @Query("SELECT s FROM Service s WHERE s.active = true AND s.serviceTime > :now ORDER BY s.serviceTime ASC")
-    Optional<Service> findNextUpcomingService(LocalDateTime now);
+    /**
+     * 기준 시간 이후 예배 (예배 일정 캐시 적재용)
+     */
+    List<Service> findByServiceTimeGreaterThanEqualOrderByServiceTimeAsc(LocalDateTime since);
+    
+    /**
+     * 기준 시간 이전 예배 첫 페이지 (예배 일정 캐시 적재 범위 밖 조회용, 최신순)
+     */
+    @Query("SELECT s FROM Service s WHERE s.serviceTime < :before ORDER BY s.serviceTime DESC, s.id DESC")
+    List<Service> findHistoryPage(LocalDateTime before, Pageable pageable);
+    
+    /**
+     * 키셋 페이지네이션: (serviceTime, id) 가 커서보다 이전인 예배를 최신순으로 조회
+     */
+    @Query("SELECT s FROM Service s " +
+           "WHERE s.serviceTime < :serviceTime OR (s.serviceTime = :serviceTime AND s.id < :id) " +
+           "ORDER BY s.serviceTime DESC, s.id DESC")
+    List<Service> findHistoryPageBefore(LocalDateTime serviceTime, Long id, Pageable pageable);
+    
+    boolean existsByActiveTrueAndServiceTimeBetween(LocalDateTime start, LocalDateTime end);
+    
+    /**
+     * 기간 내 템플릿으로 생성된 예배의 템플릿 ID, 템플릿 기준 날짜 (정기 예배 생성 시 중복 확인용)
+     * 
+     * @return [templateId, occurrenceDate]
+     */
+    @Query("SELECT s.templateId, s.occurrenceDate FROM Service s " +
+           "WHERE s.templateId IS NOT NULL AND s.occurrenceDate BETWEEN :fromDate AND :toDate")
+    List<Object[]> findOccurrenceKeys(LocalDate fromDate, LocalDate toDate);
+    
+    List<Service> findByTemplateIdAndOccurrenceDateGreaterThanEqual(Long templateId, LocalDate occurrenceDate);
+    
+    /**
+     * 예배 수와 마지막 수정 시간 (예배 일정 캐시 변경 확인용)
+     * 
+     * @return [[count, maxUpdatedAt]]
+     */
+    @Query("SELECT COUNT(s), MAX(s.updatedAt) FROM Service s")
+    List<Object[]> findCalendarFingerprint();
+    
+    /**
+     * 자동 지각 처리가 되지 않은 예배 조회 (since 이후 시작, 종료 전)
+     * 처리 시간이 지난 예배는 바로 처리하고 나머지는 처리 시간에 맞춰 예약
+     */
+    @Query("SELECT s FROM Service s WHERE s.active = true AND s.lateProcessedAt IS NULL AND s.closedAt IS NULL " +
+           "AND s.serviceTime >= :since ORDER BY s.serviceTime ASC")
+    List<Service> findServicesPendingAutoLate(LocalDateTime since);
     
     /**
-     * 예배 시작 후 특정 시간이 경과한 예배 조회
-     * 예배 시작 시간 + 10분 <= 현재 시간
-     * 예배 시작 시간 + 11분 > 현재 시간
-     * (1분 간격으로 체크하므로 중복 처리 방지)
+     * 자동 지각 처리 선점 (이미 처리되었으면 0)
      */
-    @Query("SELECT s FROM Service s WHERE s.active = true " +
-           "AND s.serviceTime <= :beforeTime " +
-           "AND s.serviceTime > :afterTime")
-    List<Service> findServicesForAutoLateProcessing(LocalDateTime beforeTime, LocalDateTime afterTime);
+    @Modifying
+    @Query("UPDATE Service s SET s.lateProcessedAt = :processedAt WHERE s.id = :serviceId AND s.lateProcessedAt IS NULL")
+    int markLateProcessed(Long serviceId, LocalDateTime processedAt);
+    
+    /**
+     * 종료 시간이 지났지만 결석 처리가 되지 않은 예배 조회
+     */
+    @Query("SELECT s FROM Service s WHERE s.active = true AND s.closedAt IS NULL " +
+           "AND s.serviceTime <= :closedBefore AND s.serviceTime >= :since ORDER BY s.serviceTime ASC")
+    List<Service> findServicesToClose(LocalDateTime closedBefore, LocalDateTime since);
+    
+    /**
+     * 결석 처리 완료 표시 (이미 처리되었으면 0)
+     */
+    @Modifying
+    @Query("UPDATE Service s SET s.closedAt = :closedAt WHERE s.id = :serviceId AND s.closedAt IS NULL")
+    int markClosed(Long serviceId, LocalDateTime closedAt);
+    
+    /**
+     * 종료되었지만 기간별 추이 집계에 아직 반영되지 않은 예배 조회
+     * 결석 처리 대상 기간(since 이후) 예배는 결석 처리가 끝난 뒤에만 반영
+     */
+    @Query("SELECT s FROM Service s WHERE s.active = true AND s.serviceTime <= :closedBefore " +
+           "AND (s.closedAt IS NOT NULL OR s.serviceTime < :closingSince) " +
+           "AND NOT EXISTS (SELECT c FROM ServiceAttendanceCounter c WHERE c.serviceId = s.id AND c.rolledUpAt IS NOT NULL) " +
+           "ORDER BY s.serviceTime ASC")
+    List<Service> findClosedServicesNotRolledUp(LocalDateTime closedBefore, LocalDateTime closingSince);
 }
-
-
@@ -0,0 +1,23 @@
+package com.church.attendance.repository;
+
+import com.church.attendance.entity.ServiceTemplateException;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ServiceTemplateExceptionRepository extends JpaRepository<ServiceTemplateException, Long> {
+    
+    @Query("SELECT e FROM ServiceTemplateException e WHERE e.exceptionDate BETWEEN :from AND :to")
+    List<ServiceTemplateException> findBetween(LocalDate from, LocalDate to);
+    
+    @Query("SELECT e FROM ServiceTemplateException e WHERE e.template.id = :templateId ORDER BY e.exceptionDate")
+    List<ServiceTemplateException> findByTemplateId(Long templateId);
+    
+    @Query("SELECT e FROM ServiceTemplateException e WHERE e.template.id = :templateId AND e.exceptionDate = :exceptionDate")
+    Optional<ServiceTemplateException> findByTemplateIdAndDate(Long templateId, LocalDate exceptionDate);
+}
@@ -0,0 +1,14 @@
+package com.church.attendance.repository;
+
+import com.church.attendance.entity.ServiceTemplate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ServiceTemplateRepository extends JpaRepository<ServiceTemplate, Long> {
+    List<ServiceTemplate> findByActiveTrue();
+    
+    List<ServiceTemplate> findAllByOrderByDayOfWeekAscStartTimeAsc();
+}
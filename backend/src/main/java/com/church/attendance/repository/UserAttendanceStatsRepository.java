@@ -0,0 +1,56 @@
+package com.church.attendance.repository;
+
+import com.church.attendance.entity.UserAttendanceStats;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface UserAttendanceStatsRepository extends JpaRepository<UserAttendanceStats, Long> {
+    
+    /**
+     * 통계가 없는 사용자의 빈 통계 생성 (이미 있으면 무시)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO user_attendance_stats " +
+                   "(user_id, present_count, late_count, absent_count, recent_weeks_mask, applied_attendance_id) " +
+                   "SELECT u.id, 0, 0, 0, 0, 0 FROM users u WHERE u.id IN (:userIds)",
+           nativeQuery = true)
+    int insertMissing(Collection<Long> userIds);
+    
+    /**
+     * 통계 행 잠금 조회 (서버 간 동시 갱신 시 덮어쓰기 방지, 교착을 피하도록 ID 순서로 잠금)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserAttendanceStats s WHERE s.userId IN :userIds ORDER BY s.userId")
+    List<UserAttendanceStats> findAllForUpdate(Collection<Long> userIds);
+    
+    /**
+     * 예배 결석 기록을 통계에 한 번에 반영하고 반영한 기록 ID 를 올림
+     * 결석은 결석 수만 늘리므로 행마다 엔티티를 읽지 않고 UPDATE ... JOIN 한 번으로 처리
+     * 결석 기록 앞에 반영되지 않은 다른 기록이 있는 사용자는 건너뜀 (기록 ID 순서대로 반영해야 하므로 엔티티 경로에서 처리)
+     */
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE user_attendance_stats s JOIN attendance a ON a.user_id = s.user_id " +
+                   "SET s.absent_count = s.absent_count + 1, s.applied_attendance_id = a.id " +
+                   "WHERE a.service_id = :serviceId AND a.status = 'ABSENT' AND a.id > s.applied_attendance_id " +
+                   "AND NOT EXISTS (SELECT 1 FROM attendance o WHERE o.user_id = a.user_id " +
+                   "AND o.id > s.applied_attendance_id AND o.id < a.id)",
+           nativeQuery = true)
+    int applyAbsent(Long serviceId);
+    
+    /**
+     * 활성 사용자 ID, 이름, 통계 조회 (관리자 일괄 조회용, 통계가 없으면 null)
+     * 
+     * @return [userId, 사용자 이름, UserAttendanceStats]
+     */
+    @Query("SELECT u.id, u.name, s FROM User u LEFT JOIN UserAttendanceStats s ON s.userId = u.id " +
+           "WHERE u.active = true ORDER BY u.name")
+    List<Object[]> findActiveUsersWithStats();
+}
@@ -2,8 +2,10 @@ package com.church.attendance.repository;
 
 import com.church.attendance.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -16,10 +18,21 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     List<User> findByActiveTrueAndRole(User.Role role);
     
+    long countByActiveTrueAndRole(User.Role role);
+    
     /**
      * 네이버 ID로 사용자 찾기
      */
     Optional<User> findByNaverId(String naverId);
+    
+    /**
+     * 전체 사용자 ID 조회 (통계 재계산용)
+     */
+    @Query("SELECT u.id FROM User u ORDER BY u.id")
+    List<Long> findAllIds();
+    
+    @Query("SELECT COALESCE(MAX(u.id), 0) FROM User u")
+    long findMaxId();
 }
 
 
@@ -0,0 +1,23 @@
+package com.church.attendance.repository;
+
+import com.church.attendance.entity.Venue;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface VenueRepository extends JpaRepository<Venue, Long> {
+    List<Venue> findByActiveTrue();
+    
+    List<Venue> findAllByOrderByNameAsc();
+    
+    /**
+     * 장소 변경 감지용 (장소 수, 마지막 수정 시간)
+     * 
+     * @return [[count, maxUpdatedAt]]
+     */
+    @Query("SELECT COUNT(v), MAX(v.updatedAt) FROM Venue v")
+    List<Object[]> findFingerprint();
+}
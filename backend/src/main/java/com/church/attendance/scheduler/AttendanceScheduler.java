@@ -1,19 +1,38 @@
 package com.church.attendance.scheduler;
 
+import com.church.attendance.dto.AutoLateResult;
 import com.church.attendance.entity.Service;
+import com.church.attendance.event.ServiceChangedEvent;
+import com.church.attendance.event.ServiceClosedEvent;
+import com.church.attendance.metrics.AttendanceMetrics;
 import com.church.attendance.repository.ServiceRepository;
 import com.church.attendance.service.AttendanceService;
+import com.church.attendance.service.SchedulerLockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
 
 /**
  * 출석 체크 자동화 스케줄러
- * 예배 시작 후 10분 경과 시 미출석 사용자를 자동으로 지각 처리
+ * 예배마다 (시작 시간 + 지각 기준 시간)에 타이머를 예약하여 미출석 사용자를 자동으로 지각 처리
+ * 
+ * - 예배 생성/수정 시 타이머 재예약
+ * - 애플리케이션 시작 시 처리 시간이 지났지만 처리되지 않은 예배를 바로 처리
+ * - 처리 완료는 예배의 lateProcessedAt 으로 기록하므로 같은 예배를 두 번 처리하지 않음
+ * - 여러 서버가 같은 예배를 예약해도 예배별 잠금을 얻은 서버만 처리
  */
 @Slf4j
 @Component
@@ -22,45 +41,144 @@ public class AttendanceScheduler {
     
     private final ServiceRepository serviceRepository;
     private final AttendanceService attendanceService;
+    private final AttendanceMetrics attendanceMetrics;
+    private final TaskScheduler taskScheduler;
+    private final SchedulerLockService lockService;
+    
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(2);
+    
+    private final Map<Long, ArmedTimer> timers = new ConcurrentHashMap<>();
+    
+    @Value("${attendance.late-grace-minutes}")
+    private int lateGraceMinutes;
+    
+    @Value("${attendance.close-after-minutes}")
+    private int closeAfterMinutes;
     
     /**
-     * 매 1분마다 실행
-     * 예배 시작 후 10분 경과한 예배를 찾아 미출석 사용자를 자동 지각 처리
+     * 애플리케이션 시작 시 누락된 예배 처리 및 예정된 예배 예약
      */
-    @Scheduled(fixedRate = 60000) // 1분 = 60000ms
-    public void processAutoLateAttendance() {
+    @EventListener(ApplicationReadyEvent.class)
+    public void armOnStartup() {
+        armPendingServices();
+    }
+    
+    /**
+     * 예배 생성/수정 시 타이머 재예약
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceChanged(ServiceChangedEvent event) {
+        serviceRepository.findById(event.getServiceId()).ifPresentOrElse(this::arm, () -> cancel(event.getServiceId()));
+    }
+    
+    /**
+     * 예배 종료 시 예배별 잠금 정리 (종료된 예배는 다시 처리하지 않으므로 잠금 행이 쌓이지 않도록)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceClosed(ServiceClosedEvent event) {
+        cancel(event.getServiceId());
+        lockService.delete(lockName(event.getServiceId()));
+    }
+    
+    /**
+     * 매 10분마다 실행
+     * 이벤트 없이 변경된 예배나 예약이 누락된 예배를 보정
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void armPendingServices() {
         try {
-            LocalDateTime now = LocalDateTime.now();
-            
-            // 예배 시작 후 10분이 지난 예배 찾기
-            // 예배 시작 시간 + 10분 <= 현재 시간
-            // 예배 시작 시간 + 11분 > 현재 시간
-            // (1분 간격으로 체크하므로 중복 처리 방지)
-            LocalDateTime beforeTime = now.minusMinutes(10); // 예배 시작 시간이 이 시간 이하여야 함
-            LocalDateTime afterTime = now.minusMinutes(11);  // 예배 시작 시간이 이 시간 이후여야 함
+            // 종료 전 예배만 대상 (종료 후에는 결석 처리로 넘어감)
+            LocalDateTime since = LocalDateTime.now().minusMinutes(closeAfterMinutes);
+            serviceRepository.findServicesPendingAutoLate(since).forEach(this::arm);
+        } catch (Exception e) {
+            log.error("자동 지각 처리 예약 중 오류 발생", e);
+        }
+    }
+    
+    /**
+     * 예배의 자동 지각 처리 예약 (처리 시간이 지났으면 바로 처리)
+     */
+    private void arm(Service service) {
+        if (!Boolean.TRUE.equals(service.getActive()) || service.getLateProcessedAt() != null) {
+            cancel(service.getId());
+            return;
+        }
+        
+        LocalDateTime dueTime = service.getServiceTime().plusMinutes(lateGraceMinutes);
+        ArmedTimer armed = timers.get(service.getId());
+        if (armed != null && armed.dueTime.equals(dueTime) && !armed.future.isDone()) {
+            return; // 이미 같은 시간으로 예약됨
+        }
+        
+        cancel(service.getId());
+        ScheduledFuture<?> future = taskScheduler.schedule(
+                () -> process(service.getId()),
+                dueTime.atZone(ZoneId.systemDefault()).toInstant());
+        timers.put(service.getId(), new ArmedTimer(dueTime, future));
+        log.debug("예배 [{}] 자동 지각 처리 예약: {}", service.getName(), dueTime);
+    }
+    
+    private void cancel(Long serviceId) {
+        ArmedTimer armed = timers.remove(serviceId);
+        if (armed != null) {
+            armed.future.cancel(false);
+        }
+    }
+    
+    /**
+     * 예약 시간에 실행
+     * 예약 이후 예배 시간이 변경되었을 수 있으므로 다시 조회하여 처리
+     */
+    private void process(Long serviceId) {
+        timers.remove(serviceId);
+        
+        long startedAt = System.nanoTime();
+        long affectedRows = 0;
+        try {
+            Service service = serviceRepository.findById(serviceId).orElse(null);
+            if (service == null || !Boolean.TRUE.equals(service.getActive())) {
+                return;
+            }
             
-            List<Service> servicesToProcess = serviceRepository.findServicesForAutoLateProcessing(
-                    beforeTime, 
-                    afterTime
-            );
+            LocalDateTime dueTime = service.getServiceTime().plusMinutes(lateGraceMinutes);
+            if (LocalDateTime.now().isBefore(dueTime)) {
+                arm(service); // 예배 시간이 늦춰진 경우
+                return;
+            }
             
-            if (servicesToProcess.isEmpty()) {
-                return; // 처리할 예배가 없음
+            AutoLateResult result = lockService.runExclusively(lockName(serviceId), LOCK_LEASE,
+                    lease -> attendanceService.processAutoLateAttendance(service));
+            if (result == null) {
+                return; // 다른 서버에서 처리 중
             }
+            affectedRows = result.getInsertedCount();
             
-            for (Service service : servicesToProcess) {
-                int processedCount = attendanceService.processAutoLateAttendance(service);
-                
-                if (processedCount > 0) {
-                    log.info("예배 [{}] (시작: {}) 자동 지각 처리 완료: {}명", 
-                            service.getName(), 
-                            service.getServiceTime(),
-                            processedCount);
-                }
+            if (result.getInsertedCount() > 0) {
+                log.info("예배 [{}] (시작: {}) 자동 지각 처리 완료: {}명 ({}ms)", 
+                        service.getName(), 
+                        service.getServiceTime(),
+                        result.getInsertedCount(),
+                        result.getElapsedMillis());
             }
         } catch (Exception e) {
-            log.error("자동 지각 처리 중 오류 발생", e);
+            log.error("자동 지각 처리 중 오류 발생 (예배 ID: {})", serviceId, e);
+        } finally {
+            // 실패 시 lateProcessedAt 이 롤백되므로 다음 보정 실행에서 다시 처리
+            attendanceMetrics.recordSchedulerRun("auto_late", startedAt, affectedRows);
+        }
+    }
+    
+    private static String lockName(Long serviceId) {
+        return "auto_late:" + serviceId;
+    }
+    
+    private static class ArmedTimer {
+        private final LocalDateTime dueTime;
+        private final ScheduledFuture<?> future;
+        
+        private ArmedTimer(LocalDateTime dueTime, ScheduledFuture<?> future) {
+            this.dueTime = dueTime;
+            this.future = future;
         }
     }
 }
-
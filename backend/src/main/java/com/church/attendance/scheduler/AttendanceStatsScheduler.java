@@ -0,0 +1,46 @@
+package com.church.attendance.scheduler;
+
+import com.church.attendance.metrics.AttendanceMetrics;
+import com.church.attendance.service.SchedulerLockService;
+import com.church.attendance.service.UserAttendanceStatsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 사용자 출석 통계 재계산 스케줄러
+ * 매일 새벽 출석 기록 기준으로 전체 통계를 다시 계산하여 누락/중복 반영을 보정
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceStatsScheduler {
+    
+    private final UserAttendanceStatsService statsService;
+    private final AttendanceMetrics attendanceMetrics;
+    private final SchedulerLockService lockService;
+    
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(5);
+    private static final Duration MIN_INTERVAL = Duration.ofHours(1); // 하루 한 번 (끝난 뒤 다른 서버가 다시 실행하지 않도록)
+    
+    @Scheduled(cron = "${attendance.stats.rebuild-cron:0 30 3 * * *}")
+    public void rebuildStats() {
+        long startedAt = System.nanoTime();
+        long affectedRows = 0;
+        try {
+            Integer result = lockService.runExclusively("attendance_stats_rebuild", LOCK_LEASE, MIN_INTERVAL, lease -> statsService.rebuildAll());
+            if (result == null) {
+                return; // 다른 서버에서 실행 중이거나 이미 실행됨
+            }
+            affectedRows = result;
+            log.info("사용자 출석 통계 재계산 완료: {}명", affectedRows);
+        } catch (Exception e) {
+            log.error("사용자 출석 통계 재계산 중 오류 발생", e);
+        } finally {
+            attendanceMetrics.recordSchedulerRun("attendance_stats_rebuild", startedAt, affectedRows);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.church.attendance.scheduler;
+
+import com.church.attendance.metrics.AttendanceMetrics;
+import com.church.attendance.service.SchedulerLockService;
+import com.church.attendance.service.AttendanceTrendService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 출석 추이 집계 스케줄러
+ * 종료된 예배를 주/월 구간 집계에 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceTrendScheduler {
+    
+    private final AttendanceTrendService trendService;
+    private final AttendanceMetrics attendanceMetrics;
+    private final SchedulerLockService lockService;
+    
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(5);
+    private static final Duration MIN_INTERVAL = Duration.ofMinutes(9); // 서버가 여러 대여도 10분 주기에 한 번
+    
+    /**
+     * 매 10분마다 실행
+     */
+    @Scheduled(fixedDelay = 600000, initialDelay = 60000)
+    public void rollUpClosedServices() {
+        long startedAt = System.nanoTime();
+        long affectedRows = 0;
+        try {
+            Integer result = lockService.runExclusively("trend_rollup", LOCK_LEASE, MIN_INTERVAL, lease -> trendService.rollUpClosedServices());
+            if (result == null) {
+                return; // 다른 서버에서 실행 중이거나 이번 주기에 이미 실행됨
+            }
+            affectedRows = result;
+            if (affectedRows > 0) {
+                log.info("출석 추이 집계 반영 완료: 예배 {}건", affectedRows);
+            }
+        } catch (Exception e) {
+            log.error("출석 추이 집계 중 오류 발생", e);
+        } finally {
+            attendanceMetrics.recordSchedulerRun("trend_rollup", startedAt, affectedRows);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.church.attendance.scheduler;
+
+import com.church.attendance.metrics.AttendanceMetrics;
+import com.church.attendance.service.SchedulerLockService;
+import com.church.attendance.service.ServiceClosingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 예배 종료 스케줄러
+ * 종료 시간이 지난 예배의 미출석 사용자를 결석 처리
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ServiceClosingScheduler {
+    
+    private final ServiceClosingService closingService;
+    private final AttendanceMetrics attendanceMetrics;
+    private final SchedulerLockService lockService;
+    
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(5);
+    private static final Duration MIN_INTERVAL = Duration.ofMinutes(4); // 서버가 여러 대여도 5분 주기에 한 번
+    
+    /**
+     * 매 5분마다 실행
+     */
+    @Scheduled(fixedDelay = 300000, initialDelay = 30000)
+    public void closeDueServices() {
+        long startedAt = System.nanoTime();
+        long affectedRows = 0;
+        try {
+            Integer result = lockService.runExclusively("service_closing", LOCK_LEASE, MIN_INTERVAL, lease -> closingService.closeDueServices());
+            if (result == null) {
+                return; // 다른 서버에서 실행 중이거나 이번 주기에 이미 실행됨
+            }
+            affectedRows = result;
+        } catch (Exception e) {
+            log.error("예배 결석 처리 중 오류 발생", e);
+        } finally {
+            attendanceMetrics.recordSchedulerRun("service_closing", startedAt, affectedRows);
+        }
+    }
+}
@@ -1,127 +1,108 @@
 package com.church.attendance.scheduler;
 
 import com.church.attendance.entity.Service;
-import com.church.attendance.service.ServiceService;
+import com.church.attendance.metrics.AttendanceMetrics;
+import com.church.attendance.service.SchedulerLockService;
+import com.church.attendance.service.ServiceTemplateService;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.time.DayOfWeek;
-import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.time.Duration;
+import java.util.List;
 
 /**
  * 예배 자동 생성 스케줄러
- * 매주 일요일 오후 2시에 예배를 자동으로 생성
+ * 정기 예배 템플릿을 기준으로 앞으로 horizon-days 일 동안의 예배를 한 번에 생성
+ * 여러 서버 중 잠금을 얻은 한 서버만 생성하며, 생성 직전에 잠금이 유효한지 확인
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ServiceScheduler {
     
-    private final ServiceService serviceService;
+    private final ServiceTemplateService templateService;
+    private final AttendanceMetrics attendanceMetrics;
+    private final SchedulerLockService lockService;
+    private final TransactionTemplate transactionTemplate;
     
-    private static final int SERVICE_HOUR = 14; // 오후 2시
-    private static final int SERVICE_MINUTE = 0;
-    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final String LOCK_NAME = "service_creation";
+    private static final String STARTUP_LOCK_NAME = "service_creation_startup"; // 자정 실행의 최소 간격에 걸리지 않도록 분리
+    private static final Duration LOCK_LEASE = Duration.ofMinutes(2);
+    private static final Duration MIN_INTERVAL = Duration.ofHours(1); // 하루 한 번 (끝난 뒤 다른 서버가 다시 실행하지 않도록)
+    private static final Duration STARTUP_MIN_INTERVAL = Duration.ofMinutes(1); // 여러 서버가 동시에 시작할 때 한 서버만 실행
+    
+    public ServiceScheduler(ServiceTemplateService templateService,
+                            AttendanceMetrics attendanceMetrics,
+                            SchedulerLockService lockService,
+                            PlatformTransactionManager transactionManager) {
+        this.templateService = templateService;
+        this.attendanceMetrics = attendanceMetrics;
+        this.lockService = lockService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
     
     /**
      * 애플리케이션 시작 시 실행
-     * 다음 일요일 오후 2시 예배가 없으면 미리 생성
+     * 템플릿이 없으면 기본 주일 예배 템플릿을 만들고 기간 내 예배를 미리 생성
      */
     @PostConstruct
-    public void createNextSundayServiceOnStartup() {
+    public void createServicesOnStartup() {
+        long startedAt = System.nanoTime();
+        int affectedRows = 0;
         try {
-            createNextSundayService();
+            affectedRows = createServices(true);
         } catch (Exception e) {
-            log.error("애플리케이션 시작 시 다음 주일 예배 생성 중 오류 발생", e);
+            log.error("애플리케이션 시작 시 예배 생성 중 오류 발생", e);
+        } finally {
+            attendanceMetrics.recordSchedulerRun("service_creation_startup", startedAt, affectedRows);
         }
     }
     
     /**
      * 매일 오전 0시에 실행
-     * 오늘이 일요일이고 오후 2시 예배가 없으면 생성
+     * 기간이 하루 늘어난 만큼 새 예배 생성
      */
     @Scheduled(cron = "0 0 0 * * *") // 매일 자정에 실행
-    public void createWeeklyService() {
+    public void createUpcomingServices() {
+        long startedAt = System.nanoTime();
+        long affectedRows = 0;
         try {
-            LocalDateTime now = LocalDateTime.now();
-            
-            // 오늘이 일요일인지 확인
-            if (now.getDayOfWeek() != DayOfWeek.SUNDAY) {
-                return; // 일요일이 아니면 종료
-            }
-            
-            // 오늘 오후 2시 시간 계산
-            LocalDateTime serviceTime = now.toLocalDate()
-                    .atTime(SERVICE_HOUR, SERVICE_MINUTE);
-            
-            // 이미 오늘 예배가 있는지 확인
-            if (serviceService.existsServiceOnDate(serviceTime)) {
-                log.debug("오늘({}) 예배가 이미 존재합니다. 건너뜁니다.", 
-                        serviceTime.format(DATE_FORMATTER));
-                return; // 이미 예배가 있으면 생성하지 않음
-            }
-            
-            // 예배 생성
-            String serviceName = String.format("주일 예배 (%s)", 
-                    serviceTime.format(DATE_FORMATTER));
-            
-            Service service = serviceService.createService(
-                    serviceName,
-                    serviceTime,
-                    Service.ServiceType.SUNDAY
-            );
-            
-            log.info("주일 예배 자동 생성 완료: {} (시작 시간: {})", 
-                    service.getName(), service.getServiceTime());
-                    
+            affectedRows = createServices(false);
         } catch (Exception e) {
-            log.error("주일 예배 자동 생성 중 오류 발생", e);
+            log.error("정기 예배 자동 생성 중 오류 발생", e);
+        } finally {
+            attendanceMetrics.recordSchedulerRun("service_creation", startedAt, affectedRows);
         }
     }
     
     /**
-     * 다음 일요일 오후 2시 예배가 없으면 미리 생성
+     * 잠금 검증, 중복 확인, 생성을 한 트랜잭션에서 처리하여 임대가 만료된 서버는 생성하지 못함
+     * 
+     * @return 생성된 예배 수
      */
-    private void createNextSundayService() {
-        LocalDateTime now = LocalDateTime.now();
-        
-        // 다음 일요일 찾기
-        int daysUntilSunday = DayOfWeek.SUNDAY.getValue() - now.getDayOfWeek().getValue();
-        
-        if (daysUntilSunday <= 0) {
-            // 오늘이 일요일이거나 지났으면 다음 주 일요일
-            daysUntilSunday += 7;
+    private int createServices(boolean seedDefaultTemplate) {
+        String lockName = seedDefaultTemplate ? STARTUP_LOCK_NAME : LOCK_NAME;
+        Duration minInterval = seedDefaultTemplate ? STARTUP_MIN_INTERVAL : MIN_INTERVAL;
+        List<Service> created = lockService.runExclusively(lockName, LOCK_LEASE, minInterval,
+                lease -> transactionTemplate.execute(status -> {
+                    lockService.validate(lease);
+                    if (seedDefaultTemplate) {
+                        templateService.seedDefaultTemplateIfEmpty();
+                    }
+                    return templateService.generateHorizon();
+                }));
+        if (created == null) {
+            log.debug("다른 서버에서 예배 생성 중이거나 이미 생성했습니다. 건너뜁니다.");
+            return 0;
         }
         
-        LocalDateTime nextSunday = now.plusDays(daysUntilSunday);
-        
-        // 다음 일요일 오후 2시 시간 계산
-        LocalDateTime serviceTime = nextSunday.toLocalDate()
-                .atTime(SERVICE_HOUR, SERVICE_MINUTE);
-        
-        // 이미 해당 날짜에 예배가 있는지 확인
-        if (serviceService.existsServiceOnDate(serviceTime)) {
-            log.debug("다음 일요일({}) 예배가 이미 존재합니다. 건너뜁니다.", 
-                    serviceTime.format(DATE_FORMATTER));
-            return;
+        for (Service service : created) {
+            log.info("정기 예배 자동 생성 완료: {} (시작 시간: {})", 
+                    service.getName(), service.getServiceTime());
         }
-        
-        // 예배 생성
-        String serviceName = String.format("주일 예배 (%s)", 
-                serviceTime.format(DATE_FORMATTER));
-        
-        Service service = serviceService.createService(
-                serviceName,
-                serviceTime,
-                Service.ServiceType.SUNDAY
-        );
-        
-        log.info("다음 주일 예배 미리 생성 완료: {} (시작 시간: {})", 
-                service.getName(), service.getServiceTime());
+        return created.size();
     }
 }
-
@@ -1,5 +1,6 @@
 package com.church.attendance.security;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -22,6 +23,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     private final JwtTokenProvider tokenProvider;
     private final UserDetailsService userDetailsService;
+    private final UserPrincipalCache principalCache;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, 
@@ -30,9 +32,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
             
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseVerifiedClaims(jwt) : null;
+            
+            if (claims != null) {
+                String username = claims.getSubject();
+                UserDetails userDetails = principalCache.get(username);
+                if (userDetails == null) {
+                    userDetails = userDetailsService.loadUserByUsername(username);
+                    principalCache.put(userDetails);
+                }
                 
                 UsernamePasswordAuthenticationToken authentication = 
                     new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
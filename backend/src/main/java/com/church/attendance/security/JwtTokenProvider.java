@@ -1,5 +1,7 @@
 package com.church.attendance.security;
 
+import com.church.attendance.dto.CacheStatsResponse;
+import com.church.attendance.util.BoundedTtlCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,6 +11,9 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 
 @Component
@@ -16,12 +21,29 @@ public class JwtTokenProvider {
     
     private final SecretKey key;
     private final long jwtExpiration;
+    private final JwtParser parser;  // 불변 객체이므로 스레드 간 공유
+    private final BoundedTtlCache<String, Claims> verifiedTokenCache;  // 비활성화 시 null
     
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
-            @Value("${jwt.expiration}") long jwtExpiration) {
+            @Value("${jwt.expiration}") long jwtExpiration,
+            @Value("${jwt.verified-cache.enabled:true}") boolean verifiedCacheEnabled,
+            @Value("${jwt.verified-cache.max-size:10000}") int verifiedCacheMaxSize) {
         this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
         this.jwtExpiration = jwtExpiration;
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
+        this.verifiedTokenCache = verifiedCacheEnabled
+                ? new BoundedTtlCache<>("verified-token", jwtExpiration, verifiedCacheMaxSize)
+                : null;
+    }
+    
+    /**
+     * 액세스 토큰 유효 시간 (밀리초)
+     */
+    public long getExpirationMillis() {
+        return jwtExpiration;
     }
     
     public String generateToken(Authentication authentication) {
@@ -37,27 +59,61 @@ public class JwtTokenProvider {
                 .compact();
     }
     
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    /**
+     * 토큰을 한 번만 파싱하여 서명/만료를 검증하고 클레임을 반환
+     * 최근 검증된 토큰은 만료 시각까지 캐시에서 바로 반환
+     * 
+     * @return 검증된 클레임, 유효하지 않은 토큰이면 null
+     */
+    public Claims parseVerifiedClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
         
+        String digest = verifiedTokenCache != null ? digest(token) : null;
+        if (digest != null) {
+            Claims cached = verifiedTokenCache.get(digest);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+        
+        if (digest != null && claims.getExpiration() != null) {
+            verifiedTokenCache.put(digest, claims, claims.getExpiration().getTime());
+        }
+        return claims;
+    }
+    
+    public String getUsernameFromToken(String token) {
+        Claims claims = parseVerifiedClaims(token);
+        if (claims == null) {
+            throw new JwtException("Invalid JWT token");
+        }
         return claims.getSubject();
     }
     
     public boolean validateToken(String token) {
+        return parseVerifiedClaims(token) != null;
+    }
+    
+    public CacheStatsResponse getVerifiedTokenCacheStats() {
+        return verifiedTokenCache != null ? verifiedTokenCache.getStats() : null;
+    }
+    
+    private String digest(String token) {
         try {
-            Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token);
-            return true;
-        } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            byte[] hash = sha256.digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 }
-
-
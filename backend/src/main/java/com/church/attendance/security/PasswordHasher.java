@@ -0,0 +1,166 @@
+package com.church.attendance.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ * BCrypt 계산을 요청 스레드가 아닌 고정 크기 스레드 풀에서 수행하여
+ * 로그인이 몰려도 CPU 를 점유하는 해시 작업 수가 스레드 수를 넘지 않게 함
+ * 
+ * - 대기열이 가득 차거나 대기 시간을 넘으면 바로 거절 (503 응답)
+ * - 비밀번호가 없는 계정(네이버 전용)은 해시 계산 없이 불일치 처리
+ * - password.hash.queue, password.hash.active: 대기/실행 중인 작업 수
+ * - password.hash{operation, phase}: 대기 시간(queue)과 계산 시간(compute)
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+    
+    /**
+     * 비밀번호 로그인을 쓰지 않는 계정의 저장 값 (BCrypt 형식이 아니므로 어떤 입력과도 일치하지 않음)
+     */
+    public static final String NO_PASSWORD = "{none}";
+    
+    private static final String BUSY_MESSAGE = "로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요";
+    
+    private final PasswordEncoder passwordEncoder;
+    private final MeterRegistry meterRegistry;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMs;
+    private final AtomicInteger rejected = new AtomicInteger();
+    private volatile String dummyHash;
+    
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${security.password.hashing.threads:0}") int threads,
+                          @Value("${security.password.hashing.queue-capacity:200}") int queueCapacity,
+                          @Value("${security.password.hashing.wait-timeout-ms:5000}") long waitTimeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.meterRegistry = meterRegistry;
+        this.waitTimeoutMs = waitTimeoutMs;
+        
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        
+        Gauge.builder("password.hash.queue", executor, e -> e.getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("password.hash.active", executor, ThreadPoolExecutor::getActiveCount)
+                .register(meterRegistry);
+        FunctionCounter.builder("password.hash.rejected", rejected, AtomicInteger::get)
+                .register(meterRegistry);
+        log.info("비밀번호 해시 실행기 시작: 스레드 {}개, 대기열 {}건", poolSize, queueCapacity);
+    }
+    
+    /**
+     * 비밀번호 해시 생성
+     */
+    public String encode(String rawPassword) {
+        return submit("encode", () -> passwordEncoder.encode(rawPassword));
+    }
+    
+    /**
+     * 비밀번호 일치 여부 확인
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        if (rawPassword == null || !hasPassword(encodedPassword)) {
+            return false;
+        }
+        return submit("matches", () -> passwordEncoder.matches(rawPassword, encodedPassword));
+    }
+    
+    /**
+     * 저장된 해시의 비용이 현재 설정보다 낮아 다시 해시해야 하는지 확인 (해시 계산 없음)
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return hasPassword(encodedPassword) && passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+    
+    /**
+     * 없는 사용자로 로그인할 때도 같은 시간이 걸리도록 임의 해시와 비교 (사용자명 존재 여부 노출 방지)
+     */
+    public void matchesDummy(String rawPassword) {
+        if (rawPassword == null) {
+            return;
+        }
+        if (dummyHash == null) {
+            dummyHash = encode("dummy-password");
+        }
+        matches(rawPassword, dummyHash);
+    }
+    
+    public static boolean hasPassword(String encodedPassword) {
+        return encodedPassword != null && !NO_PASSWORD.equals(encodedPassword);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+    
+    private <T> T submit(String operation, Callable<T> task) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                record(operation, "queue", startedAt - submittedAt);
+                try {
+                    return task.call();
+                } finally {
+                    record(operation, "compute", System.nanoTime() - startedAt);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException(BUSY_MESSAGE, e);
+        }
+        
+        try {
+            return future.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.incrementAndGet();
+            throw new RejectedExecutionException(BUSY_MESSAGE, e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("비밀번호 확인이 중단되었습니다", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("비밀번호 처리 중 오류가 발생했습니다", e.getCause());
+        }
+    }
+    
+    private void record(String operation, String phase, long nanos) {
+        Timer.builder("password.hash")
+                .tag("operation", operation)
+                .tag("phase", phase)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,36 @@
+package com.church.attendance.security;
+
+import com.church.attendance.entity.User;
+import com.church.attendance.event.UserChangedEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 엔티티 변경 시 캐시 무효화
+ * - 인증 사용자 캐시: 권한 또는 활성화 상태가 바뀐 경우에만 제거
+ * - 출석 사용자 캐시: 이름 등이 바뀔 수 있으므로 항상 제거 (UserChangedEvent, 커밋 후)
+ * 
+ * 이 서버에서 엔티티로 변경한 경우에만 호출되며, 그 밖의 변경은 캐시 TTL 이 지나야 반영됨
+ */
+@Component
+@RequiredArgsConstructor
+public class UserCacheInvalidationListener {
+    
+    private final UserPrincipalCache principalCache;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    @PostUpdate
+    public void onUpdate(User user) {
+        principalCache.invalidateIfChanged(user.getUsername(), user.getRole().name(), user.getActive());
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername()));
+    }
+    
+    @PostRemove
+    public void onRemove(User user) {
+        principalCache.invalidate(user.getUsername());
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername()));
+    }
+}
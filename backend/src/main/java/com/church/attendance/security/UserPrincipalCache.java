@@ -0,0 +1,62 @@
+package com.church.attendance.security;
+
+import com.church.attendance.dto.CacheStatsResponse;
+import com.church.attendance.util.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+/**
+ * 인증 사용자 정보 캐시
+ * JWT 인증 시 매 요청마다 users 테이블을 조회하지 않도록 UserDetails 를 보관
+ * TTL 만료 및 최대 크기 초과 시(가장 오래 사용되지 않은 항목부터) 제거
+ * 
+ * 변경 즉시 제거는 이 서버의 JPA 엔티티 변경(UserCacheInvalidationListener)에만 적용됨
+ * 다른 서버에서의 변경이나 JPQL 일괄 UPDATE 로 비활성화/권한 변경된 사용자는 TTL(기본 60초)이 지날 때까지 인증될 수 있으므로
+ * TTL 이 권한 회수에 걸리는 최대 시간
+ */
+@Component
+public class UserPrincipalCache {
+    
+    private final BoundedTtlCache<String, UserDetails> cache;
+    
+    public UserPrincipalCache(
+            @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${security.principal-cache.max-size:10000}") int maxSize) {
+        this.cache = new BoundedTtlCache<>("principal", ttlSeconds * 1000, maxSize);
+    }
+    
+    /**
+     * 캐시된 사용자 정보 조회
+     * 
+     * @return 캐시에 없거나 만료되었으면 null
+     */
+    public UserDetails get(String username) {
+        return cache.get(username);
+    }
+    
+    public void put(UserDetails userDetails) {
+        cache.put(userDetails.getUsername(), userDetails);
+    }
+    
+    /**
+     * 사용자 권한 또는 활성화 상태가 캐시와 다르면 제거
+     */
+    public void invalidateIfChanged(String username, String role, boolean active) {
+        cache.invalidateIf(username, userDetails -> {
+            boolean roleChanged = userDetails.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .noneMatch(authority -> authority.equals("ROLE_" + role));
+            return roleChanged || userDetails.isEnabled() != active;
+        });
+    }
+    
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+    
+    public CacheStatsResponse getStats() {
+        return cache.getStats();
+    }
+}
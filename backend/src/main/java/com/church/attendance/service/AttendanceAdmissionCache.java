@@ -0,0 +1,220 @@
+package com.church.attendance.service;
+
+import com.church.attendance.dto.CacheStatsResponse;
+import com.church.attendance.entity.Service;
+import com.church.attendance.entity.User;
+import com.church.attendance.event.ServiceChangedEvent;
+import com.church.attendance.event.UserChangedEvent;
+import com.church.attendance.repository.AttendanceRepository;
+import com.church.attendance.repository.ServiceRepository;
+import com.church.attendance.repository.UserRepository;
+import com.church.attendance.util.BoundedTtlCache;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 출석 체크 사전 판단용 메모리 캐시
+ * 예배 시간 정보와 이미 출석한 (사용자, 예배) 쌍을 메모리에 유지하여
+ * 실제 신규 출석만 DB에 도달하도록 함
+ * 
+ * 예배 시간/활성화가 변경되면(ServiceChangedEvent) 커밋 후 해당 예배 정보를 제거하여 다음 요청 시 다시 적재
+ * 사용자 정보는 크기와 만료 시간이 있는 캐시에 두고, 사용자 엔티티가 변경/삭제되면 제거
+ * 
+ * 출석 완료 사용자 목록은 서버별로 유지됨 (다른 서버에서 방금 출석한 사용자는 이 서버에서 선점에 성공하고
+ * DB 의 uk_user_service 제약에서 중복으로 거절됨)
+ */
+@Slf4j
+@Component
+public class AttendanceAdmissionCache {
+    
+    private final ServiceRepository serviceRepository;
+    private final UserRepository userRepository;
+    private final AttendanceRepository attendanceRepository;
+    
+    @Value("${attendance.activation-minutes-before}")
+    private int activationMinutesBefore;
+    
+    @Value("${attendance.late-grace-minutes}")
+    private int lateGraceMinutes;
+    
+    private final Map<Long, ServiceWindow> serviceWindows = new ConcurrentHashMap<>();
+    private final BoundedTtlCache<String, UserEntry> usersByUsername;
+    
+    public AttendanceAdmissionCache(ServiceRepository serviceRepository,
+                                    UserRepository userRepository,
+                                    AttendanceRepository attendanceRepository,
+                                    @Value("${attendance.user-cache.ttl-seconds:300}") long userTtlSeconds,
+                                    @Value("${attendance.user-cache.max-size:10000}") int userMaxSize) {
+        this.serviceRepository = serviceRepository;
+        this.userRepository = userRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.usersByUsername = new BoundedTtlCache<>("admission-user", userTtlSeconds * 1000, userMaxSize);
+    }
+    
+    /**
+     * 예배 시간 정보 조회 (최초 1회만 DB 조회)
+     */
+    public ServiceWindow getServiceWindow(Long serviceId) {
+        ServiceWindow window = serviceWindows.get(serviceId);
+        if (window != null) {
+            return window;
+        }
+        
+        Service service = serviceRepository.findById(serviceId)
+                .orElseThrow(() -> new RuntimeException("예배를 찾을 수 없습니다"));
+        return serviceWindows.computeIfAbsent(serviceId, id -> loadWindow(service));
+    }
+    
+    /**
+     * 사용자 정보 조회 (캐시에 없거나 만료되었을 때만 DB 조회)
+     */
+    public UserEntry getUser(String username) {
+        UserEntry entry = usersByUsername.get(username);
+        if (entry != null) {
+            return entry;
+        }
+        
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+        entry = new UserEntry(user.getId(), user.getName());
+        usersByUsername.put(username, entry);
+        return entry;
+    }
+    
+    /**
+     * 사용자 정보 변경, 삭제 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        usersByUsername.invalidate(event.getUsername());
+    }
+    
+    public CacheStatsResponse getUserCacheStats() {
+        return usersByUsername.getStats();
+    }
+    
+    /**
+     * 출석 자리 선점
+     * 이미 출석한 사용자면 false, 아니면 메모리에 기록하고 true
+     * 이 서버의 기록만 보므로 다른 서버에서 출석한 경우는 DB 제약으로 거절됨
+     * 현재 트랜잭션이 롤백되면 선점을 해제
+     */
+    public boolean claim(ServiceWindow window, Long userId) {
+        if (!window.checkedInUserIds.add(userId)) {
+            return false;
+        }
+        
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        window.checkedInUserIds.remove(userId);
+                    }
+                }
+            });
+        }
+        return true;
+    }
+    
+    /**
+     * 예배 정보 무효화
+     * 일괄 처리 등 이 캐시를 거치지 않고 출석 기록이 생성된 경우 호출
+     */
+    public void evictService(Long serviceId) {
+        serviceWindows.remove(serviceId);
+        
+        // 커밋 전에 다시 적재된 경우를 대비해 커밋 후 한 번 더 제거
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    serviceWindows.remove(serviceId);
+                }
+            });
+        }
+    }
+    
+    /**
+     * 예배 시간 변경, 취소 반영
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceChanged(ServiceChangedEvent event) {
+        serviceWindows.remove(event.getServiceId());
+    }
+    
+    /**
+     * 매 5분마다 실행
+     * 전후 1일 이내의 예배를 미리 적재하고 지난 예배는 제거
+     */
+    @Scheduled(fixedDelay = 300000, initialDelay = 10000)
+    public void refresh() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime expiry = now.minusDays(1);
+            
+            serviceWindows.values().removeIf(window -> window.serviceTime.isBefore(expiry));
+            
+            List<Service> services = serviceRepository.findActiveServicesBetween(expiry, now.plusDays(1));
+            for (Service service : services) {
+                serviceWindows.computeIfAbsent(service.getId(), id -> loadWindow(service));
+            }
+        } catch (Exception e) {
+            log.error("출석 캐시 갱신 중 오류 발생", e);
+        }
+    }
+    
+    private ServiceWindow loadWindow(Service service) {
+        Set<Long> checkedInUserIds = ConcurrentHashMap.newKeySet();
+        checkedInUserIds.addAll(attendanceRepository.findUserIdsByServiceId(service.getId()));
+        
+        return new ServiceWindow(
+                service.getId(),
+                service.getName(),
+                Boolean.TRUE.equals(service.getActive()),
+                service.getServiceTime(),
+                service.getServiceTime().minusMinutes(activationMinutesBefore),
+                service.getServiceTime().plusMinutes(lateGraceMinutes),
+                checkedInUserIds
+        );
+    }
+    
+    /**
+     * 예배별 출석 가능 시간과 출석 완료 사용자 목록
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ServiceWindow {
+        private final Long id;
+        private final String name;
+        private final boolean active;                // 비활성(취소된) 예배는 출석 불가
+        private final LocalDateTime serviceTime;
+        private final LocalDateTime activationTime;  // 출석 체크 시작 시간
+        private final LocalDateTime lateThreshold;   // 지각 기준 시간
+        private final Set<Long> checkedInUserIds;
+        
+        public boolean isCheckedIn(Long userId) {
+            return checkedInUserIds.contains(userId);
+        }
+    }
+    
+    @Getter
+    @AllArgsConstructor
+    public static class UserEntry {
+        private final Long id;
+        private final String name;
+    }
+}
@@ -0,0 +1,169 @@
+package com.church.attendance.service;
+
+import com.church.attendance.event.AttendanceCheckedEvent;
+import com.church.attendance.event.AutoLateProcessedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관리자 대시보드용 실시간 출석 이벤트 전송 (Server-Sent Events)
+ * 
+ * 출석 트랜잭션 커밋 후 구독자별 버퍼에 넣기만 하고, 실제 전송은 별도 스레드에서 처리하여
+ * 출석 체크 요청이 느린 구독자를 기다리지 않음
+ * 버퍼가 가득 찬 구독자(처리가 느린 대시보드)는 연결을 종료
+ */
+@Slf4j
+@Component
+public class AttendanceEventBroadcaster {
+    
+    private static final String EVENT_ATTENDANCE = "attendance";
+    private static final String EVENT_AUTO_LATE = "auto-late";
+    
+    private final long emitterTimeoutMillis;
+    private final int bufferSize;
+    private final Map<Long, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService dispatcher;
+    
+    public AttendanceEventBroadcaster(
+            @Value("${attendance.live-feed.timeout-minutes:30}") long timeoutMinutes,
+            @Value("${attendance.live-feed.buffer-size:256}") int bufferSize,
+            @Value("${attendance.live-feed.dispatcher-threads:4}") int dispatcherThreads) {
+        this.emitterTimeoutMillis = timeoutMinutes * 60 * 1000;
+        this.bufferSize = bufferSize;
+        
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(dispatcherThreads, runnable -> {
+            Thread thread = new Thread(runnable, "attendance-live-feed-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    /**
+     * 예배 출석 이벤트 구독
+     */
+    public SseEmitter subscribe(Long serviceId) {
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(serviceId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        
+        subscribers.computeIfAbsent(serviceId, id -> new CopyOnWriteArrayList<>()).add(subscriber);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        
+        return emitter;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChecked(AttendanceCheckedEvent event) {
+        publish(event.getServiceId(), EVENT_ATTENDANCE, event.getAttendance());
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAutoLateProcessed(AutoLateProcessedEvent event) {
+        publish(event.getServiceId(), EVENT_AUTO_LATE, event.getResult());
+    }
+    
+    /**
+     * 매 30초마다 연결 유지용 주석 전송 (끊어진 연결 정리)
+     */
+    @Scheduled(fixedRate = 30000)
+    public void sendHeartbeat() {
+        subscribers.values().forEach(list -> list.forEach(subscriber ->
+                enqueue(subscriber, SseEmitter.event().comment("heartbeat"))));
+    }
+    
+    public int getSubscriberCount() {
+        return subscribers.values().stream().mapToInt(List::size).sum();
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(list -> list.forEach(subscriber -> subscriber.emitter.complete()));
+        dispatcher.shutdownNow();
+    }
+    
+    private void publish(Long serviceId, String eventName, Object data) {
+        List<Subscriber> targets = subscribers.get(serviceId);
+        if (targets == null || targets.isEmpty()) {
+            return;
+        }
+        
+        for (Subscriber subscriber : targets) {
+            enqueue(subscriber, SseEmitter.event().name(eventName).data(data));
+        }
+    }
+    
+    /**
+     * 구독자 버퍼에 추가 (대기하지 않음)
+     * 버퍼가 가득 차면 느린 구독자로 보고 연결 종료
+     */
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (!subscriber.buffer.offer(event)) {
+            log.warn("실시간 출석 구독자 버퍼 초과로 연결 종료 (예배 ID: {})", subscriber.serviceId);
+            remove(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        
+        if (subscriber.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+    
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while ((event = subscriber.buffer.poll()) != null) {
+                subscriber.emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            remove(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        
+        // 전송 중 추가된 이벤트 처리
+        if (!subscriber.buffer.isEmpty() && subscriber.draining.compareAndSet(false, true)) {
+            dispatcher.execute(() -> drain(subscriber));
+        }
+    }
+    
+    private void remove(Subscriber subscriber) {
+        List<Subscriber> list = subscribers.get(subscriber.serviceId);
+        if (list != null) {
+            list.remove(subscriber);
+        }
+    }
+    
+    private static class Subscriber {
+        private final Long serviceId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> buffer;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        
+        private Subscriber(Long serviceId, SseEmitter emitter, BlockingQueue<SseEmitter.SseEventBuilder> buffer) {
+            this.serviceId = serviceId;
+            this.emitter = emitter;
+            this.buffer = buffer;
+        }
+    }
+}
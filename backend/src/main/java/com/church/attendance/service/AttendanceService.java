@@ -1,22 +1,36 @@
 package com.church.attendance.service;
 
 import com.church.attendance.dto.AttendanceCheckRequest;
+import com.church.attendance.dto.AttendancePageResponse;
 import com.church.attendance.dto.AttendanceResponse;
+import com.church.attendance.dto.AutoLateResult;
 import com.church.attendance.entity.Attendance;
 import com.church.attendance.entity.Service;
-import com.church.attendance.entity.User;
+import com.church.attendance.event.AttendanceCheckedEvent;
+import com.church.attendance.event.AutoLateProcessedEvent;
+import com.church.attendance.metrics.AttendanceMetrics;
 import com.church.attendance.repository.AttendanceRepository;
 import com.church.attendance.repository.ServiceRepository;
 import com.church.attendance.repository.UserRepository;
-import com.church.attendance.util.LocationUtil;
+import com.church.attendance.util.GeofenceIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @org.springframework.stereotype.Service
 @RequiredArgsConstructor
@@ -25,6 +39,20 @@ public class AttendanceService {
     private final AttendanceRepository attendanceRepository;
     private final ServiceRepository serviceRepository;
     private final UserRepository userRepository;
+    private final AttendanceAdmissionCache admissionCache;
+    private final AttendanceWriteBehindQueue writeBehindQueue;
+    private final AttendanceMetrics attendanceMetrics;
+    private final ServiceAttendanceCounterService counterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AttendanceVersionTracker versionTracker;
+    private final ServiceCalendar serviceCalendar;
+    private final GeofenceService geofenceService;
+    
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+    
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int STREAM_FLUSH_SIZE = 500;
     
     @Value("${church.location.latitude}")
     private double churchLatitude;
@@ -32,152 +60,304 @@ public class AttendanceService {
     @Value("${church.location.longitude}")
     private double churchLongitude;
     
-    @Value("${church.location.radius}")
-    private double churchRadius;
-    
     @Value("${attendance.activation-minutes-before}")
     private int activationMinutesBefore;
     
     @Value("${attendance.late-grace-minutes}")
     private int lateGraceMinutes;
     
+    /**
+     * 출석 체크
+     * 메모리에서 판단 가능한 거절(중복, 시간 전, 반경 밖)은 DB 조회 없이 처리하고
+     * 실제 신규 출석만 INSERT 한 번으로 저장
+     */
     @Transactional
     public AttendanceResponse checkAttendance(AttendanceCheckRequest request) {
+        long startedAt = System.nanoTime();
+        String result = "rejected";
+        try {
+            AttendanceResponse response = admitAttendance(request, startedAt);
+            result = "accepted";
+            
+            // 실시간 대시보드 전송은 커밋 후 별도 스레드에서 처리
+            eventPublisher.publishEvent(new AttendanceCheckedEvent(response.getServiceId(), response));
+            return response;
+        } finally {
+            attendanceMetrics.recordCheck(result, startedAt);
+        }
+    }
+    
+    /**
+     * 출석 체크 단계별 처리 (단계마다 소요 시간 기록)
+     */
+    private AttendanceResponse admitAttendance(AttendanceCheckRequest request, long startedAt) {
+        long stageStartedAt = startedAt;
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+        AttendanceAdmissionCache.UserEntry user = admissionCache.getUser(username);
+        stageStartedAt = attendanceMetrics.recordStage(AttendanceMetrics.STAGE_USER_LOOKUP, stageStartedAt);
         
-        Service service = serviceRepository.findById(request.getServiceId())
-                .orElseThrow(() -> new RuntimeException("예배를 찾을 수 없습니다"));
+        AttendanceAdmissionCache.ServiceWindow service = admissionCache.getServiceWindow(request.getServiceId());
+        stageStartedAt = attendanceMetrics.recordStage(AttendanceMetrics.STAGE_SERVICE_LOOKUP, stageStartedAt);
+        
+        if (!service.isActive()) {
+            throw attendanceMetrics.reject(AttendanceMetrics.REJECT_INACTIVE_SERVICE, "출석 체크할 수 없는 예배입니다");
+        }
         
         // 이미 출석 체크했는지 확인
-        if (attendanceRepository.existsByUserAndService(user, service)) {
-            throw new RuntimeException("이미 출석 체크를 완료했습니다");
+        boolean checkedIn = service.isCheckedIn(user.getId());
+        stageStartedAt = attendanceMetrics.recordStage(AttendanceMetrics.STAGE_DUPLICATE_CHECK, stageStartedAt);
+        if (checkedIn) {
+            throw attendanceMetrics.reject(AttendanceMetrics.REJECT_DUPLICATE, "이미 출석 체크를 완료했습니다");
         }
         
         // 출석 체크 가능 시간인지 확인
         LocalDateTime now = LocalDateTime.now();
-        LocalDateTime activationTime = service.getServiceTime().minusMinutes(activationMinutesBefore);
         
-        if (now.isBefore(activationTime)) {
-            throw new RuntimeException("아직 출석 체크 시간이 아닙니다");
+        if (now.isBefore(service.getActivationTime())) {
+            throw attendanceMetrics.reject(AttendanceMetrics.REJECT_TOO_EARLY, "아직 출석 체크 시간이 아닙니다");
         }
         
-        // 거리 계산
-        double distance = LocationUtil.calculateDistance(
-            churchLatitude, churchLongitude,
-            request.getLatitude(), request.getLongitude()
-        );
+        // 출석 장소 판정 (격자 색인에서 해당 칸의 장소만 확인)
+        GeofenceIndex.Match venue = geofenceService.locate(
+                service.getId(), request.getLatitude(), request.getLongitude());
+        stageStartedAt = attendanceMetrics.recordStage(AttendanceMetrics.STAGE_GEOFENCE, stageStartedAt);
         
-        // 반경 체크
-        if (distance > churchRadius) {
-            throw new RuntimeException(String.format("교회 반경(%.0fm) 밖입니다. 현재 거리: %.0fm", churchRadius, distance));
+        if (!venue.isInside()) {
+            throw attendanceMetrics.reject(AttendanceMetrics.REJECT_OUTSIDE_RADIUS, outsideMessage(venue));
         }
+        double distance = venue.getDistance();
         
         // 출석 상태 결정 (정상/지각)
         Attendance.AttendanceStatus status;
-        LocalDateTime lateThreshold = service.getServiceTime().plusMinutes(lateGraceMinutes);
         
-        if (now.isAfter(lateThreshold)) {
+        if (now.isAfter(service.getLateThreshold())) {
             status = Attendance.AttendanceStatus.LATE;
         } else {
             status = Attendance.AttendanceStatus.PRESENT;
         }
         
-        // 출석 기록 저장
+        // 동시 요청 중복 방지 (트랜잭션 롤백 시 자동 해제)
+        if (!admissionCache.claim(service, user.getId())) {
+            throw attendanceMetrics.reject(AttendanceMetrics.REJECT_DUPLICATE, "이미 출석 체크를 완료했습니다");
+        }
+        
+        // 지연 저장 모드: 큐에 적재 후 즉시 응답 (DB 저장은 일괄 처리)
+        if (writeBehindQueue.isEnabled()) {
+            writeBehindQueue.enqueue(new AttendanceWriteBehindQueue.PendingAttendance(
+                    user.getId(), service.getId(), status,
+                    request.getLatitude(), request.getLongitude(), distance, now));
+            attendanceMetrics.recordStage(AttendanceMetrics.STAGE_INSERT, stageStartedAt);
+            
+            return AttendanceResponse.builder()
+                    .userId(user.getId())
+                    .userName(user.getName())
+                    .serviceId(service.getId())
+                    .serviceName(service.getName())
+                    .status(status.name())
+                    .latitude(request.getLatitude())
+                    .longitude(request.getLongitude())
+                    .distance(distance)
+                    .checkedAt(now)
+                    .build();
+        }
+        
+        // 출석 기록 저장 (사용자/예배는 조회 없이 참조만 사용)
         Attendance attendance = Attendance.builder()
-                .user(user)
-                .service(service)
+                .user(userRepository.getReferenceById(user.getId()))
+                .service(serviceRepository.getReferenceById(service.getId()))
                 .status(status)
                 .latitude(request.getLatitude())
                 .longitude(request.getLongitude())
                 .distance(distance)
                 .build();
         
-        attendance = attendanceRepository.save(attendance);
+        try {
+            attendance = attendanceRepository.saveAndFlush(attendance);
+        } catch (DataIntegrityViolationException e) {
+            // 다른 경로(자동 지각 처리 등)에서 먼저 기록된 경우
+            throw attendanceMetrics.reject(AttendanceMetrics.REJECT_DUPLICATE, "이미 출석 체크를 완료했습니다");
+        }
+        counterService.increment(service.getId(), status, 1);
+        attendanceMetrics.recordStage(AttendanceMetrics.STAGE_INSERT, stageStartedAt);
         
-        return AttendanceResponse.from(attendance);
+        return AttendanceResponse.builder()
+                .id(attendance.getId())
+                .userId(user.getId())
+                .userName(user.getName())
+                .serviceId(service.getId())
+                .serviceName(service.getName())
+                .status(status.name())
+                .latitude(attendance.getLatitude())
+                .longitude(attendance.getLongitude())
+                .distance(attendance.getDistance())
+                .checkedAt(attendance.getCheckedAt())
+                .notes(attendance.getNotes())
+                .build();
+    }
+    
+    private static String outsideMessage(GeofenceIndex.Match venue) {
+        GeofenceIndex.Fence nearest = venue.getFence();
+        if (nearest == null) {
+            return "출석 가능한 장소 밖입니다";
+        }
+        if (nearest.isCircle()) {
+            return String.format("%s 반경(%.0fm) 밖입니다. 현재 거리: %.0fm",
+                    nearest.getName(), nearest.getRadius(), venue.getDistance());
+        }
+        return String.format("%s 구역 밖입니다. 구역 중심까지 거리: %.0fm", nearest.getName(), venue.getDistance());
+    }
+    
+    /**
+     * 내 출석 기록 ETag 값 (목록을 조회하지 않고 메모리에 보관한 기록 버전과 예배 일정 버전으로 계산)
+     */
+    public String getMyAttendancesETag() {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        AttendanceAdmissionCache.UserEntry user = admissionCache.getUser(username);
+        
+        return "att-" + user.getId() + "-" + versionTracker.getUserVersion(user.getId())
+                + "-" + serviceCalendar.getVersionTag();
     }
     
     @Transactional(readOnly = true)
     public List<AttendanceResponse> getMyAttendances() {
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+        AttendanceAdmissionCache.UserEntry user = admissionCache.getUser(username);
         
-        return attendanceRepository.findByUser(user).stream()
-                .map(AttendanceResponse::from)
-                .collect(Collectors.toList());
+        return attendanceRepository.findResponsesByUserId(user.getId());
     }
     
     @Transactional(readOnly = true)
     public List<AttendanceResponse> getAttendancesByService(Long serviceId) {
-        Service service = serviceRepository.findById(serviceId)
-                .orElseThrow(() -> new RuntimeException("예배를 찾을 수 없습니다"));
+        if (!serviceRepository.existsById(serviceId)) {
+            throw new RuntimeException("예배를 찾을 수 없습니다");
+        }
         
-        return attendanceRepository.findByServiceOrderByCheckedAtDesc(service).stream()
-                .map(AttendanceResponse::from)
-                .collect(Collectors.toList());
+        return attendanceRepository.findResponsesByServiceId(serviceId);
+    }
+    
+    /**
+     * 특정 예배의 결석자 조회 (예배 종료 후 생성된 결석 기록 기준)
+     */
+    @Transactional(readOnly = true)
+    public List<AttendanceResponse> getAbsentAttendances(Long serviceId) {
+        if (!serviceRepository.existsById(serviceId)) {
+            throw new RuntimeException("예배를 찾을 수 없습니다");
+        }
+        
+        return attendanceRepository.findResponsesByServiceIdAndStatus(serviceId, Attendance.AttendanceStatus.ABSENT);
+    }
+    
+    /**
+     * 전체 출석 기록 페이지 조회 (최신순, 키셋 페이지네이션)
+     * 
+     * @param beforeCheckedAt 이전 페이지 마지막 기록의 출석 시간 (첫 페이지면 null)
+     * @param beforeId 이전 페이지 마지막 기록의 ID (첫 페이지면 null)
+     * @param size 페이지 크기 (최대 500)
+     */
+    @Transactional(readOnly = true)
+    public AttendancePageResponse getAttendancePage(LocalDateTime beforeCheckedAt, Long beforeId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        PageRequest pageRequest = PageRequest.of(0, pageSize + 1);
+        
+        List<AttendanceResponse> rows = (beforeCheckedAt == null || beforeId == null)
+                ? attendanceRepository.findLatestPage(pageRequest)
+                : attendanceRepository.findPageBefore(beforeCheckedAt, beforeId, pageRequest);
+        
+        boolean hasNext = rows.size() > pageSize;
+        List<AttendanceResponse> items = hasNext ? rows.subList(0, pageSize) : rows;
+        
+        AttendanceResponse last = items.isEmpty() ? null : items.get(items.size() - 1);
+        return AttendancePageResponse.builder()
+                .items(items)
+                .hasNext(hasNext)
+                .nextCheckedAt(hasNext ? last.getCheckedAt() : null)
+                .nextId(hasNext ? last.getId() : null)
+                .build();
+    }
+    
+    /**
+     * 전체 출석 기록을 NDJSON(한 줄에 JSON 1건)으로 출력
+     * DB 커서에서 DTO 로 읽는 즉시 기록하므로 기록 수와 관계없이 메모리 사용량이 일정
+     */
+    public void streamAllAttendances(OutputStream outputStream) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<AttendanceResponse> rows = attendanceRepository.streamAll()) {
+                Iterator<AttendanceResponse> iterator = rows.iterator();
+                int count = 0;
+                while (iterator.hasNext()) {
+                    outputStream.write(objectMapper.writeValueAsBytes(iterator.next()));
+                    outputStream.write('\n');
+                    
+                    if (++count % STREAM_FLUSH_SIZE == 0) {
+                        outputStream.flush();
+                    }
+                }
+                outputStream.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
     }
     
     @Transactional(readOnly = true)
     public List<AttendanceResponse> getAllAttendances() {
-        return attendanceRepository.findAll().stream()
-                .map(AttendanceResponse::from)
-                .collect(Collectors.toList());
+        return attendanceRepository.findAllResponses();
     }
     
     /**
-     * 예배 시작 후 10분 경과 시 미출석 사용자 자동 지각 처리
+     * 예배 시작 후 지각 기준 시간 경과 시 미출석 사용자 자동 지각 처리
+     * 미출석 사용자 조회와 지각 기록 생성을 한 번의 INSERT ... SELECT 로 처리
+     * 예배의 lateProcessedAt 을 조건부로 갱신하여 선점하므로 여러 번 호출되어도 한 번만 처리
      * 
      * @param service 처리할 예배
-     * @return 자동 지각 처리된 사용자 수
+     * @return 자동 지각 처리 결과 (생성 건수, 소요 시간)
      */
     @Transactional
-    public int processAutoLateAttendance(Service service) {
+    public AutoLateResult processAutoLateAttendance(Service service) {
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime lateThreshold = service.getServiceTime().plusMinutes(lateGraceMinutes);
         
-        // 예배 시작 후 10분이 지났는지 확인
+        // 지각 기준 시간이 지났는지 확인
         if (now.isBefore(lateThreshold)) {
-            return 0; // 아직 10분이 지나지 않음
+            return AutoLateResult.skipped(service.getId());
         }
         
-        // 예배 시작 후 11분이 지났다면 이미 처리된 것으로 간주 (중복 처리 방지)
-        LocalDateTime maxThreshold = service.getServiceTime().plusMinutes(lateGraceMinutes + 1);
-        if (now.isAfter(maxThreshold)) {
-            return 0; // 이미 처리 시간이 지남
+        // 큐에 대기 중인 출석 기록이 지각으로 덮이지 않도록 먼저 저장
+        // (지연 저장은 별도 트랜잭션으로 커밋되므로 이후 자동 지각 처리가 실패해도 되돌려지지 않음)
+        writeBehindQueue.flushNow();
+        
+        // 이미 처리된 예배 (재시작 후 재처리, 중복 예약 등)
+        if (serviceRepository.markLateProcessed(service.getId(), now) == 0) {
+            return AutoLateResult.skipped(service.getId());
         }
         
-        // 활성화된 일반 사용자 조회 (관리자 제외)
-        List<User> activeUsers = userRepository.findByActiveTrueAndRole(User.Role.USER);
+        long startedAt = System.nanoTime();
         
-        int processedCount = 0;
+        // 자동 지각 처리: 출석 기록이 없는 활성 일반 사용자(관리자 제외)에게 LATE 기록 일괄 생성
+        // GPS 좌표는 교회 좌표 사용, 거리는 0으로 설정
+        int insertedCount = attendanceRepository.insertLateForMissingUsers(
+                service.getId(),
+                churchLatitude,
+                churchLongitude,
+                now,
+                "자동 지각 처리 (예배 시작 후 " + lateGraceMinutes + "분 경과)"
+        );
         
-        for (User user : activeUsers) {
-            // 이미 출석 체크했는지 확인
-            if (attendanceRepository.existsByUserAndService(user, service)) {
-                continue; // 이미 출석 체크함
-            }
-            
-            // 자동 지각 처리: LATE 상태로 출석 기록 생성
-            // GPS 좌표는 교회 좌표 사용, 거리는 0으로 설정
-            Attendance attendance = Attendance.builder()
-                    .user(user)
-                    .service(service)
-                    .status(Attendance.AttendanceStatus.LATE)
-                    .latitude(churchLatitude)
-                    .longitude(churchLongitude)
-                    .distance(0.0)
-                    .notes("자동 지각 처리 (예배 시작 후 10분 경과)")
-                    .build();
-            
-            attendanceRepository.save(attendance);
-            processedCount++;
-        }
+        counterService.increment(service.getId(), Attendance.AttendanceStatus.LATE, insertedCount);
         
-        return processedCount;
+        // 캐시를 거치지 않고 기록이 생성되었으므로 다음 요청 시 다시 적재
+        admissionCache.evictService(service.getId());
+        
+        AutoLateResult result = AutoLateResult.builder()
+                .serviceId(service.getId())
+                .insertedCount(insertedCount)
+                .elapsedMillis((System.nanoTime() - startedAt) / 1_000_000)
+                .build();
+        eventPublisher.publishEvent(new AutoLateProcessedEvent(service.getId(), result));
+        return result;
     }
 }
-
-
@@ -0,0 +1,121 @@
+package com.church.attendance.service;
+
+import com.church.attendance.dto.AttendanceTrendResponse;
+import com.church.attendance.entity.AttendanceTrendBucket;
+import com.church.attendance.entity.Service;
+import com.church.attendance.entity.ServiceAttendanceCounter;
+import com.church.attendance.repository.AttendanceTrendBucketRepository;
+import com.church.attendance.repository.ServiceAttendanceCounterRepository;
+import com.church.attendance.repository.ServiceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 기간(주/월)별, 예배 유형별 출석 추이 집계
+ * 종료된 예배의 예배별 집계를 구간에 한 번씩 더하므로 조회 시 출석 기록을 읽지 않음
+ */
+@org.springframework.stereotype.Service
+@RequiredArgsConstructor
+public class AttendanceTrendService {
+    
+    private final AttendanceTrendBucketRepository trendRepository;
+    private final ServiceAttendanceCounterRepository counterRepository;
+    private final ServiceRepository serviceRepository;
+    private final ServiceAttendanceCounterService counterService;
+    
+    @Value("${attendance.close-after-minutes}")
+    private int closeAfterMinutes;
+    
+    @Value("${attendance.closing.lookback-days}")
+    private int closingLookbackDays;
+    
+    /**
+     * 종료된 예배 중 아직 반영되지 않은 예배를 구간 집계에 반영
+     * 
+     * @return 반영한 예배 수
+     */
+    @Transactional
+    public int rollUpClosedServices() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime closedBefore = now.minusMinutes(closeAfterMinutes);
+        LocalDateTime closingSince = now.minusDays(closingLookbackDays);
+        int rolledUp = 0;
+        for (Service service : serviceRepository.findClosedServicesNotRolledUp(closedBefore, closingSince)) {
+            if (rollUp(service)) {
+                rolledUp++;
+            }
+        }
+        return rolledUp;
+    }
+    
+    /**
+     * 예배 1건을 주/월 구간 집계에 반영 (이미 반영되었으면 무시)
+     */
+    @Transactional
+    public boolean rollUp(Service service) {
+        counterService.initialize(service.getId());
+        if (counterRepository.markRolledUp(service.getId(), LocalDateTime.now()) == 0) {
+            return false;
+        }
+        
+        ServiceAttendanceCounter counter = counterRepository.findById(service.getId())
+                .orElseThrow(() -> new RuntimeException("예배 집계를 찾을 수 없습니다"));
+        LocalDate serviceDate = service.getServiceTime().toLocalDate();
+        // 대상 인원이 기록되기 전에 종료된 예배는 종료 시 모든 대상자에게 기록이 생기므로 기록 수로 대신함
+        long expected = counter.expectedOr(counter.getPresentCount() + counter.getLateCount() + counter.getAbsentCount());
+        
+        for (AttendanceTrendBucket.Period period : AttendanceTrendBucket.Period.values()) {
+            trendRepository.addService(
+                    period.name(),
+                    period.bucketStartOf(serviceDate),
+                    service.getType().name(),
+                    counter.getPresentCount(),
+                    counter.getLateCount(),
+                    counter.getAbsentCount(),
+                    expected);
+        }
+        return true;
+    }
+    
+    /**
+     * 구간 집계 전체 재생성
+     * 
+     * @return 반영한 예배 수
+     */
+    @Transactional
+    public int rebuild() {
+        trendRepository.deleteAllBuckets();
+        counterRepository.clearRolledUp();
+        return rollUpClosedServices();
+    }
+    
+    /**
+     * 기간별 출석 추이 조회
+     * 
+     * @param serviceType 예배 유형 (null 이면 전체 유형)
+     */
+    @Transactional(readOnly = true)
+    public List<AttendanceTrendResponse> getTrends(AttendanceTrendBucket.Period period,
+                                                   LocalDate from, LocalDate to,
+                                                   Service.ServiceType serviceType) {
+        if (from.isAfter(to)) {
+            throw new RuntimeException("조회 시작일이 종료일보다 늦습니다");
+        }
+        
+        // 시작일이 속한 구간부터 포함
+        LocalDate bucketFrom = period.bucketStartOf(from);
+        List<AttendanceTrendBucket> buckets = serviceType == null
+                ? trendRepository.findRange(period, bucketFrom, to)
+                : trendRepository.findRangeByType(period, serviceType, bucketFrom, to);
+        
+        return buckets.stream()
+                .map(AttendanceTrendResponse::from)
+                .collect(Collectors.toList());
+    }
+}
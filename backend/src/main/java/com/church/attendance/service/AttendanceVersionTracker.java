@@ -0,0 +1,81 @@
+package com.church.attendance.service;
+
+import com.church.attendance.dto.CacheStatsResponse;
+import com.church.attendance.event.AttendanceCheckedEvent;
+import com.church.attendance.event.AutoLateProcessedEvent;
+import com.church.attendance.event.ServiceClosedEvent;
+import com.church.attendance.repository.AttendanceRepository;
+import com.church.attendance.util.BoundedTtlCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 사용자별 출석 기록 버전 (내 출석 기록 ETag 용)
+ * 
+ * 저장된 출석 기록의 수와 최대 ID 로 계산하므로 어느 서버에서 응답해도 같은 값이 됨
+ * (사용자 ID 로 시작하는 색인만 읽으므로 목록 조회보다 가벼움)
+ * 
+ * 계산한 버전은 메모리에 두어 변경이 없는 304 응답은 DB 를 조회하지 않음
+ * - 이 서버의 출석 체크(지연 저장이면 저장 후), 자동 지각, 결석 처리 시 제거
+ * - 다른 서버에서 생성된 기록은 만료 시간(version-cache.ttl-seconds) 이내에 반영
+ */
+@Component
+public class AttendanceVersionTracker {
+    
+    private final AttendanceRepository attendanceRepository;
+    private final BoundedTtlCache<Long, String> versions;
+    
+    public AttendanceVersionTracker(AttendanceRepository attendanceRepository,
+                                    @Value("${attendance.version-cache.ttl-seconds:10}") long ttlSeconds,
+                                    @Value("${attendance.version-cache.max-size:10000}") int maxSize) {
+        this.attendanceRepository = attendanceRepository;
+        this.versions = new BoundedTtlCache<>("attendance-version", ttlSeconds * 1000, maxSize);
+    }
+    
+    /**
+     * 사용자의 출석 기록 버전
+     */
+    public String getUserVersion(Long userId) {
+        String version = versions.get(userId);
+        if (version != null) {
+            return version;
+        }
+        
+        Object[] fingerprint = attendanceRepository.findUserFingerprint(userId).get(0);
+        version = fingerprint[0] + "." + fingerprint[1];
+        versions.put(userId, version);
+        return version;
+    }
+    
+    /**
+     * 사용자의 기록이 저장된 뒤 호출 (다음 조회 시 다시 계산)
+     */
+    public void invalidate(Long userId) {
+        versions.invalidate(userId);
+    }
+    
+    public CacheStatsResponse getStats() {
+        return versions.getStats();
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChecked(AttendanceCheckedEvent event) {
+        invalidate(event.getAttendance().getUserId());
+    }
+    
+    /**
+     * 일괄 생성은 대상 사용자가 많으므로 전체 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAutoLateProcessed(AutoLateProcessedEvent event) {
+        if (event.getResult().getInsertedCount() > 0) {
+            versions.invalidateAll();
+        }
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceClosed(ServiceClosedEvent event) {
+        versions.invalidateAll();
+    }
+}
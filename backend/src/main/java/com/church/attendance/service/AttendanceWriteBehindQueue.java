@@ -0,0 +1,437 @@
+package com.church.attendance.service;
+
+import com.church.attendance.entity.Attendance;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 출석 기록 지연 저장(write-behind) 큐
+ * 출석 체크 요청은 메모리 큐에 적재만 하고, 별도 스레드가 N ms 또는 M건 단위로
+ * 여러 행을 한 번에 INSERT 하여 커밋 횟수를 줄임
+ * 
+ * - 큐가 가득 차면 일정 시간 대기 후 요청을 거절 (backpressure)
+ * - 큐에 넣기 전에 저널 파일에 기록하고 디스크까지 반영(fsync)하며, 저널 기록에 실패하면 요청을 거절
+ * - fsync 는 그룹 커밋: 한 요청이 fsync 하는 동안 기록된 요청들은 다음 fsync 한 번으로 함께 반영
+ * - 저널은 큐에서 꺼낸 기록까지 모두 커밋된 경우(inFlight == 0)에만 비움
+ * - 재시작 시 저널의 미반영 기록을 복구
+ * - 일괄 저장은 호출한 쪽의 트랜잭션과 관계없이 별도 트랜잭션으로 커밋한 뒤 저널을 비움
+ * - 애플리케이션 종료 시 남은 기록을 모두 저장
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AttendanceWriteBehindQueue {
+    
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO attendance (user_id, service_id, status, latitude, longitude, distance, checked_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final ServiceAttendanceCounterService counterService;
+    private final AttendanceVersionTracker versionTracker;
+    private final PlatformTransactionManager transactionManager;
+    
+    @Value("${attendance.write-behind.enabled:false}")
+    private boolean enabled;
+    
+    @Value("${attendance.write-behind.flush-interval-ms:200}")
+    private long flushIntervalMs;
+    
+    @Value("${attendance.write-behind.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${attendance.write-behind.queue-capacity:10000}")
+    private int queueCapacity;
+    
+    @Value("${attendance.write-behind.offer-timeout-ms:100}")
+    private long offerTimeoutMs;
+    
+    @Value("${attendance.write-behind.journal-path:./data/attendance-journal.log}")
+    private String journalPath;
+    
+    private BlockingQueue<PendingAttendance> queue;
+    private Semaphore slots;  // 큐 빈자리 (저널 기록 전에 확보하여 기록 후 적재가 항상 성공하도록 함)
+    private FileChannel journal;
+    private TransactionTemplate batchTransaction;
+    private Thread flusher;
+    private volatile boolean running;
+    
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Object journalLock = new Object();
+    private final List<PendingAttendance> retryBuffer = new ArrayList<>();
+    private final AtomicInteger inFlight = new AtomicInteger();  // 저널에 기록되었지만 아직 커밋되지 않은 기록 수
+    
+    // 그룹 커밋 상태 (syncLock 으로 보호)
+    private final Object syncLock = new Object();
+    private long writtenSeq;   // 저널에 기록된 마지막 순번 (journalLock 안에서 증가)
+    private long syncedSeq;    // 디스크에 반영된 마지막 순번
+    private long failedSeq;    // fsync 에 실패한 마지막 순번
+    private boolean syncing;
+    
+    @PostConstruct
+    public void start() throws IOException {
+        if (!enabled) {
+            return;
+        }
+        
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        slots = new Semaphore(queueCapacity);
+        batchTransaction = new TransactionTemplate(transactionManager);
+        batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        
+        Path path = Paths.get(journalPath);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        recover(path);
+        journal = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+        
+        running = true;
+        flusher = new Thread(this::runFlushLoop, "attendance-write-behind");
+        flusher.setDaemon(true);
+        flusher.start();
+        
+        log.info("출석 지연 저장 모드 활성화 (batch={}, interval={}ms, capacity={})",
+                batchSize, flushIntervalMs, queueCapacity);
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+    
+    /**
+     * 출석 기록 적재
+     * 저널에 기록하고 디스크 반영(fsync)이 끝난 뒤 큐에 넣으므로, 이 메서드가 정상 반환되면 재시작 후에도 복구됨
+     * 큐가 가득 차 있으면 offer-timeout-ms 동안 대기 후 예외, 저널 기록에 실패해도 예외
+     * 
+     * fsync 는 잠금 밖에서 그룹 단위로 수행하므로 요청마다 디스크 동기화를 줄 서서 기다리지 않음
+     */
+    public void enqueue(PendingAttendance attendance) {
+        try {
+            if (!running || !slots.tryAcquire(offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new RuntimeException("출석 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("출석 요청을 처리하지 못했습니다");
+        }
+        
+        // 저널 기록은 journalLock 안에서 처리하여 저널 비우기와 겹치지 않게 하고,
+        // 커밋될 때까지 inFlight 로 세어 그 전에는 저널을 비우지 않음
+        long seq;
+        synchronized (journalLock) {
+            try {
+                ByteBuffer line = ByteBuffer.wrap((attendance.toJournalLine() + "\n").getBytes(StandardCharsets.UTF_8));
+                while (line.hasRemaining()) {
+                    journal.write(line);
+                }
+            } catch (IOException e) {
+                slots.release();
+                log.error("출석 저널 기록 실패", e);
+                throw new RuntimeException("출석 요청을 처리하지 못했습니다. 잠시 후 다시 시도해주세요");
+            }
+            inFlight.incrementAndGet();
+            seq = ++writtenSeq;
+        }
+        
+        try {
+            awaitSync(seq);
+        } catch (IOException e) {
+            inFlight.decrementAndGet();
+            slots.release();
+            log.error("출석 저널 디스크 반영 실패", e);
+            throw new RuntimeException("출석 요청을 처리하지 못했습니다. 잠시 후 다시 시도해주세요");
+        }
+        queue.add(attendance);
+    }
+    
+    /**
+     * seq 까지의 저널 기록이 디스크에 반영될 때까지 대기 (그룹 커밋)
+     * 진행 중인 fsync 가 없으면 직접 fsync 하고, 그동안 기록된 다른 요청들은 다음 fsync 한 번으로 함께 반영
+     */
+    private void awaitSync(long seq) throws IOException {
+        long target;
+        synchronized (syncLock) {
+            while (true) {
+                if (syncedSeq >= seq) {
+                    return;
+                }
+                if (failedSeq >= seq) {
+                    throw new IOException("출석 저널 fsync 실패");
+                }
+                if (!syncing) {
+                    break;
+                }
+                try {
+                    syncLock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("출석 저널 fsync 대기 중단", e);
+                }
+            }
+            syncing = true;
+        }
+        
+        synchronized (journalLock) {
+            target = writtenSeq;
+        }
+        
+        boolean synced = false;
+        try {
+            journal.force(false);
+            synced = true;
+        } finally {
+            synchronized (syncLock) {
+                if (synced) {
+                    syncedSeq = Math.max(syncedSeq, target);
+                } else {
+                    failedSeq = Math.max(failedSeq, target);
+                }
+                syncing = false;
+                syncLock.notifyAll();
+            }
+        }
+    }
+    
+    /**
+     * 큐에 남은 기록을 호출 스레드에서 즉시 저장
+     * 자동 지각 처리처럼 DB 기준으로 판단하는 작업 전에 호출
+     */
+    public void flushNow() {
+        if (!enabled) {
+            return;
+        }
+        
+        flushLock.lock();
+        try {
+            while (!queue.isEmpty() || !retryBuffer.isEmpty()) {
+                if (!flushBatch()) {
+                    break;
+                }
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+    
+    public int getQueueSize() {
+        return queue != null ? queue.size() : 0;
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (!enabled || !running) {
+            return;
+        }
+        
+        running = false;
+        flusher.interrupt();
+        try {
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        flushNow();
+        
+        synchronized (journalLock) {
+            try {
+                journal.close();
+                if (inFlight.get() == 0) {
+                    Files.deleteIfExists(Paths.get(journalPath));
+                }
+            } catch (IOException e) {
+                log.error("출석 저널 정리 실패", e);
+            }
+        }
+        log.info("출석 지연 저장 큐 종료 완료");
+    }
+    
+    private void runFlushLoop() {
+        while (running) {
+            try {
+                PendingAttendance first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    slots.release();
+                }
+                if (first == null && retryBuffer.isEmpty()) {
+                    continue;
+                }
+                
+                flushLock.lock();
+                try {
+                    if (first != null) {
+                        retryBuffer.add(first);
+                    }
+                    if (!flushBatch()) {
+                        Thread.sleep(flushIntervalMs); // DB 장애 시 재시도 간격
+                    }
+                } finally {
+                    flushLock.unlock();
+                }
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return;
+                }
+            } catch (Exception e) {
+                log.error("출석 지연 저장 중 오류 발생", e);
+            }
+        }
+    }
+    
+    /**
+     * 최대 batch-size 건을 한 번에 저장 (flushLock 보유 상태에서 호출)
+     * 실패한 기록은 다음 시도를 위해 보관
+     */
+    private boolean flushBatch() {
+        int drained = queue.drainTo(retryBuffer, Math.max(0, batchSize - retryBuffer.size()));
+        slots.release(drained);
+        if (retryBuffer.isEmpty()) {
+            return true;
+        }
+        
+        List<PendingAttendance> batch = new ArrayList<>(retryBuffer);
+        try {
+            insertBatch(batch);
+            retryBuffer.clear();
+            inFlight.addAndGet(-batch.size());
+            batch.forEach(attendance -> versionTracker.invalidate(attendance.getUserId()));
+            truncateJournalIfDrained();
+            return true;
+        } catch (Exception e) {
+            log.error("출석 기록 {}건 일괄 저장 실패, 재시도 예정", batch.size(), e);
+            return false;
+        }
+    }
+    
+    /**
+     * 일괄 저장 (호출한 쪽에 트랜잭션이 있어도 별도 트랜잭션으로 커밋)
+     */
+    private void insertBatch(List<PendingAttendance> batch) {
+        batchTransaction.executeWithoutResult(status -> insertRows(batch));
+    }
+    
+    private void insertRows(List<PendingAttendance> batch) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, attendance) -> {
+            ps.setLong(1, attendance.getUserId());
+            ps.setLong(2, attendance.getServiceId());
+            ps.setString(3, attendance.getStatus().name());
+            ps.setDouble(4, attendance.getLatitude());
+            ps.setDouble(5, attendance.getLongitude());
+            ps.setDouble(6, attendance.getDistance());
+            ps.setTimestamp(7, Timestamp.valueOf(attendance.getCheckedAt()));
+        });
+        
+        // INSERT IGNORE 로 건너뛴 행이 있을 수 있으므로 예배 집계는 재계산
+        batch.stream()
+                .map(PendingAttendance::getServiceId)
+                .distinct()
+                .forEach(counterService::refresh);
+    }
+    
+    /**
+     * 저널에 기록된 모든 기록이 커밋되었으면 저널을 비움
+     * 큐가 비어 있어도 플러시 스레드가 꺼내 들고 있거나 fsync 를 기다리는 기록이 있을 수 있으므로 inFlight 로 판단
+     */
+    private void truncateJournalIfDrained() throws IOException {
+        synchronized (journalLock) {
+            if (inFlight.get() == 0 && journal != null) {
+                journal.truncate(0);
+                journal.position(0);
+                journal.force(false);
+            }
+        }
+    }
+    
+    /**
+     * 이전 실행에서 저장되지 못한 저널 기록 복구
+     * INSERT IGNORE 로 이미 저장된 기록은 건너뜀
+     */
+    private void recover(Path path) throws IOException {
+        if (!Files.exists(path)) {
+            return;
+        }
+        
+        List<PendingAttendance> pending = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (!line.isBlank()) {
+                try {
+                    pending.add(PendingAttendance.fromJournalLine(line));
+                } catch (Exception e) {
+                    log.warn("손상된 출석 저널 항목 무시: {}", line);
+                }
+            }
+        }
+        
+        for (int from = 0; from < pending.size(); from += batchSize) {
+            insertBatch(pending.subList(from, Math.min(from + batchSize, pending.size())));
+        }
+        
+        if (!pending.isEmpty()) {
+            log.info("출석 저널 복구 완료: {}건", pending.size());
+        }
+    }
+    
+    /**
+     * 저장 대기 중인 출석 기록
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class PendingAttendance {
+        private final Long userId;
+        private final Long serviceId;
+        private final Attendance.AttendanceStatus status;
+        private final double latitude;
+        private final double longitude;
+        private final double distance;
+        private final LocalDateTime checkedAt;
+        
+        String toJournalLine() {
+            return userId + "," + serviceId + "," + status.name() + "," +
+                   latitude + "," + longitude + "," + distance + "," + checkedAt;
+        }
+        
+        static PendingAttendance fromJournalLine(String line) {
+            String[] parts = line.split(",");
+            return new PendingAttendance(
+                    Long.parseLong(parts[0]),
+                    Long.parseLong(parts[1]),
+                    Attendance.AttendanceStatus.valueOf(parts[2]),
+                    Double.parseDouble(parts[3]),
+                    Double.parseDouble(parts[4]),
+                    Double.parseDouble(parts[5]),
+                    LocalDateTime.parse(parts[6])
+            );
+        }
+    }
+}
@@ -4,32 +4,51 @@ import com.church.attendance.dto.AuthResponse;
 import com.church.attendance.dto.LoginRequest;
 import com.church.attendance.dto.NaverLoginRequest;
 import com.church.attendance.dto.NaverUserInfo;
+import com.church.attendance.dto.RefreshTokenRequest;
 import com.church.attendance.dto.RegisterRequest;
 import com.church.attendance.entity.PendingUser;
 import com.church.attendance.entity.User;
+import com.church.attendance.metrics.AttendanceMetrics;
 import com.church.attendance.repository.UserRepository;
 import com.church.attendance.security.JwtTokenProvider;
+import com.church.attendance.security.PasswordHasher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.authentication.AuthenticationManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.util.Collections;
+
+/**
+ * 회원가입 및 로그인
+ * 
+ * BCrypt 계산은 PasswordHasher 실행기에서 수행하고, 해시 계산 중에는 DB 연결을 잡지 않음
+ * 로그인 성공 시 저장된 해시 비용이 현재 설정(security.password.bcrypt-strength)보다 낮으면 다시 해시하여 저장
+ * 로그인 시 짧은 유효 시간의 액세스 토큰과 리프레시 토큰을 함께 발급하고, 만료 후에는 refresh 로 비밀번호 확인 없이 갱신
+ */
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AuthService {
     
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final AuthenticationManager authenticationManager;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider tokenProvider;
+    private final RefreshTokenService refreshTokenService;
     private final PendingUserService pendingUserService;
     private final NaverOAuthService naverOAuthService;
+    private final AttendanceMetrics attendanceMetrics;
+    private final PlatformTransactionManager transactionManager;
     
-    @Transactional
     public AuthResponse register(RegisterRequest request) {
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new RuntimeException("사용자명이 이미 존재합니다");
@@ -41,6 +60,18 @@ public class AuthService {
             throw new RuntimeException("전화번호 또는 이메일 중 하나는 필수입니다");
         }
         
+        // 해시는 트랜잭션 밖에서 한 번만 계산
+        String encodedPassword = passwordHasher.encode(request.getPassword());
+        
+        return new TransactionTemplate(transactionManager)
+                .execute(status -> createUser(request, encodedPassword));
+    }
+    
+    private AuthResponse createUser(RegisterRequest request, String encodedPassword) {
+        if (userRepository.existsByUsername(request.getUsername())) {
+            throw new RuntimeException("사용자명이 이미 존재합니다");
+        }
+        
         // 사전 등록 확인
         PendingUser pendingUser = pendingUserService.validateAndGetPendingUser(
                 request.getPhone(), 
@@ -49,7 +80,7 @@ public class AuthService {
         
         User user = User.builder()
                 .username(request.getUsername())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .name(request.getName())
                 .phone(request.getPhone())
                 .email(request.getEmail())
@@ -62,49 +93,78 @@ public class AuthService {
         // 사전 등록 사용자 비활성화
         pendingUserService.deactivatePendingUser(pendingUser);
         
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
-        );
-        
-        String token = tokenProvider.generateToken(authentication);
-        
-        return AuthResponse.builder()
-                .token(token)
-                .userId(user.getId())
-                .username(user.getUsername())
-                .name(user.getName())
-                .role(user.getRole().name())
-                .build();
+        return toAuthResponse(user, refreshTokenService.issue(user.getId()));
     }
     
     public AuthResponse login(LoginRequest request) {
-        Authentication authentication = authenticationManager.authenticate(
-            new UsernamePasswordAuthenticationToken(request.getUsername(), request.getPassword())
-        );
-        
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return attendanceMetrics.timeLogin("password", () -> passwordLogin(request));
+    }
+    
+    private AuthResponse passwordLogin(LoginRequest request) {
+        User user = userRepository.findByUsername(request.getUsername()).orElse(null);
+        if (user == null) {
+            passwordHasher.matchesDummy(request.getPassword());
+            throw new BadCredentialsException("사용자명 또는 비밀번호가 올바르지 않습니다");
+        }
+        if (!Boolean.TRUE.equals(user.getActive())) {
+            throw new DisabledException("비활성화된 계정입니다");
+        }
         
-        String token = tokenProvider.generateToken(authentication);
+        // 네이버 전용 계정은 저장된 비밀번호가 없으므로 해시 계산 없이 실패
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
+            throw new BadCredentialsException("사용자명 또는 비밀번호가 올바르지 않습니다");
+        }
         
-        User user = userRepository.findByUsername(request.getUsername())
-                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다"));
+        if (passwordHasher.needsRehash(user.getPassword())) {
+            rehash(user, request.getPassword());
+        }
         
-        return AuthResponse.builder()
-                .token(token)
-                .userId(user.getId())
-                .username(user.getUsername())
-                .name(user.getName())
-                .role(user.getRole().name())
-                .build();
+        return toAuthResponse(user, refreshTokenService.issue(user.getId()));
+    }
+    
+    /**
+     * 리프레시 토큰으로 액세스 토큰 갱신 (해시 색인 조회만 하고 BCrypt 는 거치지 않음)
+     */
+    public AuthResponse refresh(RefreshTokenRequest request) {
+        return attendanceMetrics.timeLogin("refresh", () -> {
+            RefreshTokenService.Rotation rotation = refreshTokenService.rotate(request.getRefreshToken());
+            return toAuthResponse(rotation.getUser(), rotation.getRefreshToken());
+        });
+    }
+    
+    public void logout(RefreshTokenRequest request) {
+        refreshTokenService.revoke(request.getRefreshToken());
+    }
+    
+    /**
+     * 낮은 비용으로 저장된 해시를 현재 비용으로 다시 저장 (실패해도 로그인은 계속 진행)
+     */
+    private void rehash(User user, String rawPassword) {
+        try {
+            user.setPassword(passwordHasher.encode(rawPassword));
+            userRepository.save(user);
+            log.info("비밀번호 해시 비용 갱신: userId={}", user.getId());
+        } catch (RuntimeException e) {
+            log.warn("비밀번호 해시 비용 갱신 실패: userId={}", user.getId(), e);
+        }
     }
     
     /**
      * 네이버 로그인
+     * 네이버 응답을 기다리는 동안 요청 스레드와 DB 연결을 점유하지 않고,
+     * 응답을 받은 뒤 별도 스레드에서 트랜잭션으로 사용자 조회/생성
      */
-    @Transactional
-    public AuthResponse naverLogin(NaverLoginRequest request) {
-        // 네이버 사용자 정보 조회
-        NaverUserInfo naverUserInfo = naverOAuthService.getUserInfo(request.getAccessToken());
+    public Mono<AuthResponse> naverLogin(NaverLoginRequest request) {
+        long startedAt = System.nanoTime();
+        return naverOAuthService.getUserInfo(request.getAccessToken())
+                .publishOn(Schedulers.boundedElastic())
+                .map(naverUserInfo -> new TransactionTemplate(transactionManager)
+                        .execute(status -> loginWithNaver(naverUserInfo)))
+                .doOnSuccess(response -> attendanceMetrics.recordLogin("naver", "success", startedAt))
+                .doOnError(e -> attendanceMetrics.recordLogin("naver", "failure", startedAt));
+    }
+    
+    private AuthResponse loginWithNaver(NaverUserInfo naverUserInfo) {
         NaverUserInfo.Response naverUser = naverUserInfo.getResponse();
         
         if (naverUser == null || naverUser.getId() == null) {
@@ -117,21 +177,7 @@ public class AuthService {
         
         if (user != null) {
             // 기존 사용자 로그인
-            Authentication authentication = new UsernamePasswordAuthenticationToken(
-                    user.getUsername(), 
-                    null,
-                    java.util.Collections.emptyList()
-            );
-            
-            String token = tokenProvider.generateToken(authentication);
-            
-            return AuthResponse.builder()
-                    .token(token)
-                    .userId(user.getId())
-                    .username(user.getUsername())
-                    .name(user.getName())
-                    .role(user.getRole().name())
-                    .build();
+            return toAuthResponse(user, refreshTokenService.issue(user.getId()));
         }
         
         // 신규 사용자: 사전 등록 확인
@@ -164,7 +210,7 @@ public class AuthService {
         
         user = User.builder()
                 .username(username)
-                .password(passwordEncoder.encode("naver_" + naverUser.getId() + System.currentTimeMillis())) // 랜덤 비밀번호
+                .password(PasswordHasher.NO_PASSWORD) // 비밀번호 로그인 없음 (해시 계산 생략)
                 .name(naverUser.getName() != null ? naverUser.getName() : "사용자")
                 .phone(phone)
                 .email(email)
@@ -178,17 +224,29 @@ public class AuthService {
         // 사전 등록 사용자 비활성화
         pendingUserService.deactivatePendingUser(pendingUser);
         
-        // 인증 토큰 생성
+        return toAuthResponse(user, refreshTokenService.issue(user.getId()));
+    }
+    
+    /**
+     * 액세스 토큰 생성 및 응답 구성
+     */
+    private AuthResponse toAuthResponse(User user, String refreshToken) {
+        UserDetails principal = org.springframework.security.core.userdetails.User.builder()
+                .username(user.getUsername())
+                .password("")
+                .authorities(Collections.singletonList(
+                    new SimpleGrantedAuthority("ROLE_" + user.getRole().name())
+                ))
+                .build();
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                user.getUsername(),
-                null,
-                java.util.Collections.emptyList()
-        );
+                principal, null, principal.getAuthorities());
         
         String token = tokenProvider.generateToken(authentication);
         
         return AuthResponse.builder()
                 .token(token)
+                .expiresIn(tokenProvider.getExpirationMillis() / 1000)
+                .refreshToken(refreshToken)
                 .userId(user.getId())
                 .username(user.getUsername())
                 .name(user.getName())
@@ -0,0 +1,229 @@
+package com.church.attendance.service;
+
+import com.church.attendance.dto.VenueRequest;
+import com.church.attendance.dto.VenueResponse;
+import com.church.attendance.entity.Venue;
+import com.church.attendance.event.VenueChangedEvent;
+import com.church.attendance.repository.ServiceRepository;
+import com.church.attendance.repository.VenueRepository;
+import com.church.attendance.util.GeofenceIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * 출석 장소 관리 및 위치 판정
+ * 
+ * 활성 장소를 격자 색인(GeofenceIndex)으로 만들어 메모리에 두고 통째로 교체하므로 판정 시 DB 를 거치지 않음
+ * 예배에 적용되는 활성 장소(해당 예배 전용 또는 공통)가 하나도 없으면 church.location 설정의 원으로 판정
+ * 
+ * - 이 서버에서 장소가 변경되면 커밋 후 다시 생성
+ * - 다른 서버의 변경은 1분마다 장소 수와 마지막 수정 시간을 비교하여 반영
+ */
+@Slf4j
+@org.springframework.stereotype.Service
+public class GeofenceService {
+    
+    private static final String DEFAULT_VENUE_NAME = "교회";
+    
+    private final VenueRepository venueRepository;
+    private final ServiceRepository serviceRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    
+    private final double cellDegrees;
+    private final GeofenceIndex.Fence churchFence;
+    
+    private volatile GeofenceIndex index;
+    private volatile Object[] lastFingerprint;
+    
+    public GeofenceService(VenueRepository venueRepository,
+                           ServiceRepository serviceRepository,
+                           ApplicationEventPublisher eventPublisher,
+                           @Value("${church.location.latitude}") double churchLatitude,
+                           @Value("${church.location.longitude}") double churchLongitude,
+                           @Value("${church.location.radius}") double churchRadius,
+                           @Value("${geofence.cell-degrees:0.01}") double cellDegrees) {
+        this.venueRepository = venueRepository;
+        this.serviceRepository = serviceRepository;
+        this.eventPublisher = eventPublisher;
+        this.cellDegrees = cellDegrees;
+        this.churchFence = GeofenceIndex.Fence.circle(null, DEFAULT_VENUE_NAME, null,
+                churchLatitude, churchLongitude, churchRadius);
+    }
+    
+    /**
+     * 좌표가 들어가는 출석 장소 찾기
+     * 
+     * @param serviceId 출석 체크하는 예배 (해당 예배 전용 장소와 공통 장소만 확인)
+     */
+    public GeofenceIndex.Match locate(Long serviceId, double latitude, double longitude) {
+        GeofenceIndex.Match match = current().locate(serviceId, latitude, longitude);
+        if (match.getFence() == null) {
+            // 이 예배에 적용되는 장소가 없으면 교회 원으로 판정 (다른 예배 전용 장소만 있는 경우 포함)
+            return churchFence.test(latitude, longitude);
+        }
+        return match;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVenueChanged(VenueChangedEvent event) {
+        reload();
+    }
+    
+    /**
+     * 매 1분마다 실행
+     * 다른 서버에서 변경된 장소 반영
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void refreshIfChanged() {
+        try {
+            Object[] fingerprint = venueRepository.findFingerprint().get(0);
+            if (!Arrays.equals(fingerprint, lastFingerprint)) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.error("출석 장소 색인 갱신 중 오류 발생", e);
+        }
+    }
+    
+    /**
+     * 출석 장소 색인 다시 생성
+     */
+    public synchronized void reload() {
+        Object[] fingerprint = venueRepository.findFingerprint().get(0);
+        
+        List<GeofenceIndex.Fence> fences = new ArrayList<>();
+        for (Venue venue : venueRepository.findByActiveTrue()) {
+            try {
+                fences.add(toFence(venue));
+            } catch (RuntimeException e) {
+                log.error("출석 장소 [{}] 영역이 올바르지 않아 제외합니다", venue.getName(), e);
+            }
+        }
+        index = GeofenceIndex.build(fences, cellDegrees);
+        lastFingerprint = fingerprint;
+        log.info("출석 장소 색인 생성: {}곳", fences.size());
+    }
+    
+    @Transactional(readOnly = true)
+    public List<VenueResponse> getVenues() {
+        return venueRepository.findAllByOrderByNameAsc().stream()
+                .map(VenueResponse::from)
+                .collect(Collectors.toList());
+    }
+    
+    @Transactional
+    public VenueResponse createVenue(VenueRequest request) {
+        Venue venue = Venue.builder().build();
+        apply(venue, request);
+        venue = venueRepository.save(venue);
+        
+        eventPublisher.publishEvent(new VenueChangedEvent(venue.getId()));
+        return VenueResponse.from(venue);
+    }
+    
+    @Transactional
+    public VenueResponse updateVenue(Long venueId, VenueRequest request) {
+        Venue venue = findVenue(venueId);
+        apply(venue, request);
+        venueRepository.flush();
+        
+        eventPublisher.publishEvent(new VenueChangedEvent(venue.getId()));
+        return VenueResponse.from(venue);
+    }
+    
+    /**
+     * 장소 비활성화
+     */
+    @Transactional
+    public void deactivateVenue(Long venueId) {
+        Venue venue = findVenue(venueId);
+        venue.setActive(false);
+        venueRepository.flush();
+        
+        eventPublisher.publishEvent(new VenueChangedEvent(venue.getId()));
+    }
+    
+    private void apply(Venue venue, VenueRequest request) {
+        Venue.Shape shape = parseShape(request.getShape());
+        if (request.getServiceId() != null && !serviceRepository.existsById(request.getServiceId())) {
+            throw new RuntimeException("예배를 찾을 수 없습니다");
+        }
+        
+        venue.setName(request.getName());
+        venue.setShape(shape);
+        venue.setServiceId(request.getServiceId());
+        venue.setActive(request.getActive() == null || request.getActive());
+        
+        if (shape == Venue.Shape.CIRCLE) {
+            if (request.getLatitude() == null || request.getLongitude() == null) {
+                throw new RuntimeException("원의 중심 좌표를 입력해주세요");
+            }
+            if (request.getRadius() == null || request.getRadius() <= 0) {
+                throw new RuntimeException("반경은 0보다 커야 합니다");
+            }
+            venue.setLatitude(request.getLatitude());
+            venue.setLongitude(request.getLongitude());
+            venue.setRadius(request.getRadius());
+            venue.setPolygon(null);
+        } else {
+            List<VenueRequest.Point> points = request.getPolygon();
+            if (points == null || points.size() < 3) {
+                throw new RuntimeException("다각형은 꼭짓점이 3개 이상이어야 합니다");
+            }
+            venue.setLatitude(points.stream().mapToDouble(VenueRequest.Point::getLatitude).average().orElse(0));
+            venue.setLongitude(points.stream().mapToDouble(VenueRequest.Point::getLongitude).average().orElse(0));
+            venue.setRadius(null);
+            venue.setPolygon(points.stream()
+                    .map(point -> point.getLatitude() + "," + point.getLongitude())
+                    .collect(Collectors.joining(";")));
+        }
+    }
+    
+    private GeofenceIndex.Fence toFence(Venue venue) {
+        if (venue.getShape() == Venue.Shape.CIRCLE) {
+            return GeofenceIndex.Fence.circle(venue.getId(), venue.getName(), venue.getServiceId(),
+                    venue.getLatitude(), venue.getLongitude(), venue.getRadius());
+        }
+        
+        List<VenueRequest.Point> points = VenueResponse.parsePolygon(venue.getPolygon());
+        double[] lats = new double[points.size()];
+        double[] lons = new double[points.size()];
+        for (int i = 0; i < points.size(); i++) {
+            lats[i] = points.get(i).getLatitude();
+            lons[i] = points.get(i).getLongitude();
+        }
+        return GeofenceIndex.Fence.polygon(venue.getId(), venue.getName(), venue.getServiceId(), lats, lons);
+    }
+    
+    private Venue.Shape parseShape(String shape) {
+        try {
+            return Venue.Shape.valueOf(shape);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("올바르지 않은 영역 유형입니다: " + shape);
+        }
+    }
+    
+    private Venue findVenue(Long venueId) {
+        return venueRepository.findById(venueId)
+                .orElseThrow(() -> new RuntimeException("출석 장소를 찾을 수 없습니다"));
+    }
+    
+    private GeofenceIndex current() {
+        GeofenceIndex current = index;
+        if (current == null) {
+            reload();
+            current = Objects.requireNonNull(index);
+        }
+        return current;
+    }
+}
@@ -1,67 +1,127 @@
 package com.church.attendance.service;
 
+import com.church.attendance.dto.CacheStatsResponse;
 import com.church.attendance.dto.NaverUserInfo;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
+import com.church.attendance.metrics.AttendanceMetrics;
+import com.church.attendance.util.BoundedTtlCache;
+import com.church.attendance.util.CircuitBreaker;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
 /**
  * 네이버 OAuth2 서비스
  * 네이버 API를 통해 사용자 정보를 조회
+ * 
+ * - 공용 클라이언트(naverWebClient)로 연결을 재사용하고 응답을 기다리는 동안 요청 스레드를 점유하지 않음
+ * - 같은 액세스 토큰은 짧은 시간 동안 캐시된 사용자 정보 사용 (토큰 원문 대신 SHA-256 해시를 키로 보관)
+ * - 네이버 장애(연결 실패, 시간 초과, 5xx)가 이어지면 차단기를 열어 바로 실패 처리
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NaverOAuthService {
     
-    private final WebClient.Builder webClientBuilder;
-    private final ObjectMapper objectMapper;
+    private static final String UNAVAILABLE_MESSAGE = "네이버 로그인이 일시적으로 원활하지 않습니다. 잠시 후 다시 시도해주세요";
+    
+    private final WebClient naverWebClient;
+    private final AttendanceMetrics attendanceMetrics;
+    private final BoundedTtlCache<String, NaverUserInfo> profileCache;
+    private final CircuitBreaker circuitBreaker;
     
-    private static final String NAVER_USER_INFO_URL = "https://openapi.naver.com/v1/nid/me";
+    public NaverOAuthService(@Qualifier("naverWebClient") WebClient naverWebClient,
+                             AttendanceMetrics attendanceMetrics,
+                             @Value("${naver.profile-cache.ttl-seconds:300}") long cacheTtlSeconds,
+                             @Value("${naver.profile-cache.max-size:10000}") int cacheMaxSize,
+                             @Value("${naver.circuit-breaker.failure-threshold:5}") int failureThreshold,
+                             @Value("${naver.circuit-breaker.open-seconds:30}") long openSeconds) {
+        this.naverWebClient = naverWebClient;
+        this.attendanceMetrics = attendanceMetrics;
+        this.profileCache = new BoundedTtlCache<>("naver-profile", cacheTtlSeconds * 1000, cacheMaxSize);
+        this.circuitBreaker = new CircuitBreaker("naver", failureThreshold, openSeconds * 1000);
+    }
     
     /**
      * 네이버 액세스 토큰으로 사용자 정보 조회
      * 
      * @param accessToken 네이버 액세스 토큰
-     * @return 네이버 사용자 정보
+     * @return 네이버 사용자 정보 (응답이 오면 완료되는 Mono)
+     */
+    public Mono<NaverUserInfo> getUserInfo(String accessToken) {
+        long startedAt = System.nanoTime();
+        String cacheKey = hash(accessToken);
+        
+        NaverUserInfo cached = profileCache.get(cacheKey);
+        if (cached != null) {
+            attendanceMetrics.recordNaverCall("cache_hit", startedAt);
+            return Mono.just(cached);
+        }
+        
+        if (!circuitBreaker.tryAcquire()) {
+            attendanceMetrics.recordNaverCall("rejected", startedAt);
+            return Mono.error(new RuntimeException(UNAVAILABLE_MESSAGE));
+        }
+        
+        return naverWebClient.get()
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .retrieve()
+                .bodyToMono(NaverUserInfo.class)
+                .doOnSuccess(userInfo -> {
+                    circuitBreaker.onSuccess();
+                    attendanceMetrics.recordNaverCall("success", startedAt);
+                })
+                .doOnError(e -> {
+                    // 잘못된 토큰 등 4xx 는 네이버가 정상 응답한 것이므로 차단기에 반영하지 않음
+                    if (isNaverFailure(e)) {
+                        circuitBreaker.onFailure();
+                    } else {
+                        circuitBreaker.onSuccess();
+                    }
+                    attendanceMetrics.recordNaverCall("failure", startedAt);
+                    log.error("네이버 사용자 정보 조회 중 오류 발생 (차단기: {})", circuitBreaker.getState(), e);
+                })
+                .doOnCancel(circuitBreaker::onCancel)
+                .onErrorMap(e -> new RuntimeException(isNaverFailure(e)
+                        ? UNAVAILABLE_MESSAGE
+                        : "네이버 사용자 정보 조회 실패: " + e.getMessage()))
+                .switchIfEmpty(Mono.error(new RuntimeException("네이버 API 응답이 없습니다")))
+                .flatMap(userInfo -> {
+                    if (!"00".equals(userInfo.getResultCode())) {
+                        return Mono.error(new RuntimeException("네이버 사용자 정보 조회 실패: " + userInfo.getMessage()));
+                    }
+                    profileCache.put(cacheKey, userInfo);
+                    return Mono.just(userInfo);
+                });
+    }
+    
+    public CacheStatsResponse getProfileCacheStats() {
+        return profileCache.getStats();
+    }
+    
+    /**
+     * 네이버 쪽 장애로 볼 오류 (4xx 응답이 아닌 모든 오류: 연결 실패, 시간 초과, 5xx)
      */
-    public NaverUserInfo getUserInfo(String accessToken) {
+    private static boolean isNaverFailure(Throwable e) {
+        return !(e instanceof WebClientResponseException)
+                || ((WebClientResponseException) e).getStatusCode().is5xxServerError();
+    }
+    
+    private static String hash(String accessToken) {
         try {
-            WebClient webClient = webClientBuilder
-                    .baseUrl(NAVER_USER_INFO_URL)
-                    .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
-                    .build();
-            
-            Mono<String> responseMono = webClient.get()
-                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-                    .retrieve()
-                    .bodyToMono(String.class);
-            
-            String responseBody = responseMono.block();
-            
-            if (responseBody == null) {
-                throw new RuntimeException("네이버 API 응답이 없습니다");
-            }
-            
-            NaverUserInfo userInfo = objectMapper.readValue(responseBody, NaverUserInfo.class);
-            
-            if (!"00".equals(userInfo.getResultCode())) {
-                throw new RuntimeException("네이버 사용자 정보 조회 실패: " + userInfo.getMessage());
-            }
-            
-            return userInfo;
-        } catch (Exception e) {
-            log.error("네이버 사용자 정보 조회 중 오류 발생", e);
-            if (e instanceof RuntimeException) {
-                throw e;
-            }
-            throw new RuntimeException("네이버 사용자 정보 조회 실패: " + e.getMessage());
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(accessToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
         }
     }
 }
-
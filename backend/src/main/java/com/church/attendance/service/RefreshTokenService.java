@@ -0,0 +1,187 @@
+package com.church.attendance.service;
+
+import com.church.attendance.entity.RefreshToken;
+import com.church.attendance.entity.User;
+import com.church.attendance.repository.RefreshTokenRepository;
+import com.church.attendance.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.CredentialsExpiredException;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.UUID;
+
+/**
+ * 리프레시 토큰 발급/갱신
+ * 
+ * 액세스 토큰이 만료되면 비밀번호(BCrypt) 확인 없이 리프레시 토큰 해시의 색인 조회만으로 새 토큰 발급
+ * 
+ * - 갱신할 때마다 새 리프레시 토큰을 발급하고 이전 토큰은 폐기 (rotation)
+ * - 폐기된 토큰이 다시 들어오면 탈취로 보고 같은 로그인에서 이어진 토큰(family) 전체 폐기
+ * - 단, 갱신된 지 reuse-grace-seconds 이내인 토큰은 동시 요청이나 응답 유실 후 재시도로 보고 family 를 유지한 채 새 토큰 발급
+ * - 만료된 토큰은 매일 삭제
+ */
+@Slf4j
+@org.springframework.stereotype.Service
+public class RefreshTokenService {
+    
+    private static final int TOKEN_BYTES = 32;
+    
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final UserRepository userRepository;
+    private final long refreshExpirationDays;
+    private final long reuseGraceSeconds;
+    private final SecureRandom secureRandom = new SecureRandom();
+    
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               UserRepository userRepository,
+                               @Value("${jwt.refresh.expiration-days:30}") long refreshExpirationDays,
+                               @Value("${jwt.refresh.reuse-grace-seconds:30}") long reuseGraceSeconds) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.userRepository = userRepository;
+        this.refreshExpirationDays = refreshExpirationDays;
+        this.reuseGraceSeconds = reuseGraceSeconds;
+    }
+    
+    /**
+     * 로그인 시 새 family 로 리프레시 토큰 발급
+     * 
+     * @return 토큰 원문 (응답으로만 전달하고 저장하지 않음)
+     */
+    @Transactional
+    public String issue(Long userId) {
+        return create(userId, UUID.randomUUID().toString()).getRawToken();
+    }
+    
+    /**
+     * 리프레시 토큰 갱신
+     * 재사용 감지 시 family 폐기는 커밋하고 예외를 던짐
+     */
+    @Transactional(noRollbackFor = CredentialsExpiredException.class)
+    public Rotation rotate(String rawToken) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken token = refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new CredentialsExpiredException("유효하지 않은 리프레시 토큰입니다. 다시 로그인해주세요"));
+        
+        if (token.getExpiresAt().isBefore(now)) {
+            throw new CredentialsExpiredException("리프레시 토큰이 만료되었습니다. 다시 로그인해주세요");
+        }
+        
+        // 이미 폐기된 토큰이거나 다른 요청이 먼저 갱신한 경우 (먼저 갱신한 요청의 결과를 다시 조회)
+        if (token.getRevokedAt() != null || refreshTokenRepository.revokeIfActive(token.getId(), now) == 0) {
+            RefreshToken current = refreshTokenRepository.findForUpdate(token.getId()).orElse(token);
+            if (isRecentlyReplaced(current, now)) {
+                log.debug("갱신 직후 재요청, family 유지: userId={}, family={}", current.getUserId(), current.getFamilyId());
+                return issueNext(current, now);
+            }
+            
+            int revoked = refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+            log.warn("폐기된 리프레시 토큰 재사용 감지: userId={}, family={}, 폐기 {}건",
+                    token.getUserId(), token.getFamilyId(), revoked);
+            throw new CredentialsExpiredException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요");
+        }
+        
+        Rotation rotation = issueNext(token, now);
+        refreshTokenRepository.markReplaced(token.getId(), rotation.getTokenId());
+        return rotation;
+    }
+    
+    /**
+     * 갱신으로 폐기된 지 얼마 되지 않은 토큰인지 확인 (로그아웃으로 폐기된 토큰은 제외)
+     */
+    private boolean isRecentlyReplaced(RefreshToken token, LocalDateTime now) {
+        return token.getReplacedById() != null
+                && token.getRevokedAt() != null
+                && !token.getRevokedAt().isBefore(now.minusSeconds(reuseGraceSeconds));
+    }
+    
+    /**
+     * 같은 family 로 다음 토큰 발급 (비활성 사용자면 family 폐기)
+     */
+    private Rotation issueNext(RefreshToken token, LocalDateTime now) {
+        User user = userRepository.findById(token.getUserId()).orElse(null);
+        if (user == null || !Boolean.TRUE.equals(user.getActive())) {
+            refreshTokenRepository.revokeFamily(token.getFamilyId(), now);
+            throw new CredentialsExpiredException("비활성화된 계정입니다");
+        }
+        
+        IssuedToken next = create(user.getId(), token.getFamilyId());
+        return new Rotation(user, next.getRawToken(), next.getId());
+    }
+    
+    /**
+     * 로그아웃 (같은 로그인에서 이어진 토큰 전체 폐기, 없는 토큰은 무시)
+     */
+    @Transactional
+    public void revoke(String rawToken) {
+        refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .ifPresent(token -> refreshTokenRepository.revokeFamily(token.getFamilyId(), LocalDateTime.now()));
+    }
+    
+    /**
+     * 매일 새벽 4시 실행
+     * 만료된 리프레시 토큰 삭제
+     */
+    @Scheduled(cron = "${jwt.refresh.cleanup-cron:0 0 4 * * *}")
+    @Transactional
+    public void deleteExpired() {
+        int deleted = refreshTokenRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("만료된 리프레시 토큰 삭제: {}건", deleted);
+        }
+    }
+    
+    private IssuedToken create(Long userId, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String rawToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken token = refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(hash(rawToken))
+                .familyId(familyId)
+                .userId(userId)
+                .createdAt(now)
+                .expiresAt(now.plusDays(refreshExpirationDays))
+                .build());
+        return new IssuedToken(token.getId(), rawToken);
+    }
+    
+    private static String hash(String rawToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+    
+    @Getter
+    @AllArgsConstructor
+    private static class IssuedToken {
+        private final Long id;
+        private final String rawToken;
+    }
+    
+    /**
+     * 갱신 결과 (사용자와 새 리프레시 토큰 원문)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Rotation {
+        private final User user;
+        private final String refreshToken;
+        private final Long tokenId;
+    }
+}
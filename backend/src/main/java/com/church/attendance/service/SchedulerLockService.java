@@ -0,0 +1,220 @@
+package com.church.attendance.service;
+
+import com.church.attendance.metrics.AttendanceMetrics;
+import com.church.attendance.repository.SchedulerLockRepository;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Function;
+
+/**
+ * DB 테이블 기반 스케줄러 잠금
+ * 여러 서버가 같은 작업을 실행하려 할 때 임대(lease)를 얻은 한 서버만 실행
+ * 
+ * - 실행 중에는 임대 시간의 1/3 마다 연장
+ * - 최소 실행 간격을 주면 작업이 끝나도 그때까지 임대를 유지하여, 시계가 조금 늦은 다른 서버가 같은 주기 작업을 다시 실행하지 않음
+ * - 잠금을 얻을 때마다 fencing token 이 증가하며, 중요한 쓰기 전에 validate 로 토큰이 유효한지 확인
+ * - 시간은 각 서버 시계를 사용하므로 임대 시간은 서버 간 시계 차이보다 충분히 길게 설정
+ */
+@Slf4j
+@Service
+public class SchedulerLockService {
+    
+    private final SchedulerLockRepository lockRepository;
+    private final TaskScheduler taskScheduler;
+    private final AttendanceMetrics attendanceMetrics;
+    private final TransactionTemplate lockTransaction;
+    
+    @Getter
+    private final String owner;
+    
+    @Value("${scheduler.lock.enabled:true}")
+    private boolean enabled;
+    
+    public SchedulerLockService(SchedulerLockRepository lockRepository,
+                                TaskScheduler taskScheduler,
+                                AttendanceMetrics attendanceMetrics,
+                                PlatformTransactionManager transactionManager) {
+        this.lockRepository = lockRepository;
+        this.taskScheduler = taskScheduler;
+        this.attendanceMetrics = attendanceMetrics;
+        
+        // 작업 트랜잭션과 무관하게 즉시 커밋
+        this.lockTransaction = new TransactionTemplate(transactionManager);
+        this.lockTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        
+        this.owner = resolveHostName() + ":" + UUID.randomUUID();
+    }
+    
+    /**
+     * 잠금을 얻은 경우에만 작업 실행
+     * 
+     * @param name 작업 이름
+     * @param leaseDuration 임대 시간 (실행 중에는 자동 연장)
+     * @param job 실행할 작업
+     * @return 작업 결과 (잠금을 얻지 못했으면 null)
+     */
+    public <T> T runExclusively(String name, Duration leaseDuration, Function<Lease, T> job) {
+        return runExclusively(name, leaseDuration, Duration.ZERO, job);
+    }
+    
+    /**
+     * 잠금을 얻은 경우에만 작업을 실행하고, 잠금을 얻은 시점부터 minInterval 동안은 다시 실행하지 않음
+     * 
+     * @param minInterval 최소 실행 간격 (작업 주기보다 짧고 서버 간 시계 차이보다 길게)
+     * @return 작업 결과 (잠금을 얻지 못했거나 최소 실행 간격이 지나지 않았으면 null)
+     */
+    public <T> T runExclusively(String name, Duration leaseDuration, Duration minInterval, Function<Lease, T> job) {
+        if (!enabled) {
+            return job.apply(new Lease(name, owner, 0, LocalDateTime.now()));
+        }
+        
+        Lease lease = acquire(name, leaseDuration);
+        if (lease == null) {
+            attendanceMetrics.recordSchedulerLock(jobOf(name), "skipped");
+            return null;
+        }
+        attendanceMetrics.recordSchedulerLock(jobOf(name), "acquired");
+        
+        Duration renewInterval = leaseDuration.dividedBy(3);
+        ScheduledFuture<?> renewal = taskScheduler.scheduleAtFixedRate(
+                () -> renew(lease, leaseDuration),
+                Instant.now().plus(renewInterval),
+                renewInterval);
+        try {
+            return job.apply(lease);
+        } finally {
+            renewal.cancel(false);
+            release(lease, minInterval);
+        }
+    }
+    
+    /**
+     * 잠금이 아직 유효한지 확인하고 현재 트랜잭션이 끝날 때까지 다른 서버의 잠금 획득을 막음
+     * 임대가 만료되어 다른 서버가 잠금을 가져간 뒤라면 예외 발생 (쓰기 롤백)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void validate(Lease lease) {
+        if (!enabled) {
+            return;
+        }
+        
+        Long token = lockRepository.lockToken(lease.getName());
+        if (lease.isLost() || token == null || token != lease.getToken()) {
+            attendanceMetrics.recordSchedulerLock(jobOf(lease.getName()), "lost");
+            throw new RuntimeException("스케줄러 잠금이 만료되었습니다: " + lease.getName());
+        }
+    }
+    
+    /**
+     * 더 이상 실행하지 않을 작업의 잠금 삭제 (예배별 잠금 등 이름이 계속 늘어나는 잠금 정리용)
+     * 임대 중이거나 최소 실행 간격이 남은 잠금은 삭제하지 않음
+     */
+    public void delete(String name) {
+        if (!enabled) {
+            return;
+        }
+        
+        try {
+            lockTransaction.executeWithoutResult(status -> lockRepository.deleteExpired(name, LocalDateTime.now()));
+        } catch (Exception e) {
+            log.warn("스케줄러 잠금 삭제 실패: {}", name, e);
+        }
+    }
+    
+    private Lease acquire(String name, Duration leaseDuration) {
+        try {
+            return lockTransaction.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                LocalDateTime leaseUntil = now.plus(leaseDuration);
+                
+                if (lockRepository.insertIfAbsent(name, owner, leaseUntil, now) == 1) {
+                    return new Lease(name, owner, 1, now);
+                }
+                if (lockRepository.acquireExpired(name, owner, leaseUntil, now) == 1) {
+                    return new Lease(name, owner, lockRepository.findToken(name), now);
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("스케줄러 잠금 획득 실패: {}", name, e);
+            return null;
+        }
+    }
+    
+    private void renew(Lease lease, Duration leaseDuration) {
+        try {
+            Integer renewed = lockTransaction.execute(status -> lockRepository.renew(
+                    lease.getName(), owner, lease.getToken(), LocalDateTime.now().plus(leaseDuration)));
+            if (renewed == null || renewed == 0) {
+                lease.lost = true;
+                log.warn("스케줄러 잠금을 다른 서버가 가져갔습니다: {}", lease.getName());
+            }
+        } catch (Exception e) {
+            log.warn("스케줄러 잠금 연장 실패: {}", lease.getName(), e);
+        }
+    }
+    
+    private void release(Lease lease, Duration minInterval) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime earliestNextRun = lease.getAcquiredAt().plus(minInterval);
+        LocalDateTime leaseUntil = earliestNextRun.isAfter(now) ? earliestNextRun : now;
+        try {
+            lockTransaction.executeWithoutResult(status -> lockRepository.release(
+                    lease.getName(), owner, lease.getToken(), leaseUntil));
+        } catch (Exception e) {
+            // 반납하지 못해도 임대 시간이 지나면 다른 서버가 획득
+            log.warn("스케줄러 잠금 반납 실패: {}", lease.getName(), e);
+        }
+    }
+    
+    /**
+     * 지표용 작업 이름 (예배별 잠금 "auto_late:15" → "auto_late")
+     */
+    private static String jobOf(String name) {
+        int separator = name.indexOf(':');
+        return separator < 0 ? name : name.substring(0, separator);
+    }
+    
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+    
+    /**
+     * 획득한 잠금 (작업 실행 중에만 유효)
+     */
+    @Getter
+    public static class Lease {
+        private final String name;
+        private final String owner;
+        private final long token;
+        private final LocalDateTime acquiredAt;
+        private volatile boolean lost;
+        
+        private Lease(String name, String owner, long token, LocalDateTime acquiredAt) {
+            this.name = name;
+            this.owner = owner;
+            this.token = token;
+            this.acquiredAt = acquiredAt;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.church.attendance.service;
+
+import com.church.attendance.dto.ServiceHeadcountResponse;
+import com.church.attendance.entity.Attendance;
+import com.church.attendance.entity.ServiceAttendanceCounter;
+import com.church.attendance.entity.User;
+import com.church.attendance.repository.ServiceAttendanceCounterRepository;
+import com.church.attendance.repository.ServiceRepository;
+import com.church.attendance.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 예배별 출석 집계 관리
+ * 출석 기록 INSERT 와 같은 트랜잭션에서 UPDATE ... SET count = count + n 으로 원자적으로 증가
+ * 
+ * 대상 인원은 예배가 종료될 때 기록하고, 그 전에는 조회 시점의 활성 일반 사용자 수(1분 캐시)를 사용
+ * (예배는 최대 몇 주 앞서 생성되므로 생성 시점 인원으로 고정하지 않음)
+ */
+@Service
+@RequiredArgsConstructor
+public class ServiceAttendanceCounterService {
+    
+    private static final long ACTIVE_USERS_TTL_MILLIS = 60_000;
+    
+    private final ServiceAttendanceCounterRepository counterRepository;
+    private final ServiceRepository serviceRepository;
+    private final UserRepository userRepository;
+    
+    private volatile long activeUsers;
+    private volatile long activeUsersLoadedAt;
+    
+    /**
+     * 출석 상태별 집계 증가
+     * 집계가 아직 없으면 출석 기록을 집계하여 생성 (현재 트랜잭션의 기록도 포함되므로 증가는 생략)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increment(Long serviceId, Attendance.AttendanceStatus status, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+        
+        if (incrementCounter(serviceId, status, delta) > 0) {
+            return;
+        }
+        
+        if (counterRepository.initializeFromAttendance(serviceId) == 0) {
+            // 다른 트랜잭션이 먼저 생성한 경우
+            incrementCounter(serviceId, status, delta);
+        }
+    }
+    
+    /**
+     * 예배 집계 생성 (예배 생성 시 호출, 이미 있으면 무시)
+     */
+    @Transactional
+    public void initialize(Long serviceId) {
+        counterRepository.initializeFromAttendance(serviceId);
+    }
+    
+    /**
+     * 예배 종료 시 대상 인원 기록 (집계가 없으면 생성 후 기록)
+     */
+    @Transactional
+    public void fixExpected(Long serviceId) {
+        counterRepository.initializeFromAttendance(serviceId);
+        counterRepository.fixExpectedCount(serviceId);
+    }
+    
+    /**
+     * 출석 기록 기준으로 재계산 (개별 증가를 거치지 않고 일괄 저장된 경우)
+     */
+    @Transactional
+    public void refresh(Long serviceId) {
+        if (counterRepository.refreshFromAttendance(serviceId) == 0) {
+            counterRepository.initializeFromAttendance(serviceId);
+        }
+    }
+    
+    /**
+     * 예배 출석 현황 조회
+     */
+    @Transactional
+    public ServiceHeadcountResponse getHeadcount(Long serviceId) {
+        ServiceAttendanceCounter counter = counterRepository.findById(serviceId).orElse(null);
+        if (counter == null) {
+            if (!serviceRepository.existsById(serviceId)) {
+                throw new RuntimeException("예배를 찾을 수 없습니다");
+            }
+            counterRepository.initializeFromAttendance(serviceId);
+            counter = counterRepository.findById(serviceId)
+                    .orElseThrow(() -> new RuntimeException("예배를 찾을 수 없습니다"));
+        }
+        return ServiceHeadcountResponse.from(counter, counter.expectedOr(getActiveUsers()));
+    }
+    
+    /**
+     * 활성 일반 사용자 수 (종료 전 예배의 대상 인원, 1분 동안 캐시)
+     */
+    private long getActiveUsers() {
+        long now = System.currentTimeMillis();
+        if (now - activeUsersLoadedAt > ACTIVE_USERS_TTL_MILLIS) {
+            activeUsers = userRepository.countByActiveTrueAndRole(User.Role.USER);
+            activeUsersLoadedAt = now;
+        }
+        return activeUsers;
+    }
+    
+    private int incrementCounter(Long serviceId, Attendance.AttendanceStatus status, long delta) {
+        switch (status) {
+            case PRESENT:
+                return counterRepository.incrementPresent(serviceId, delta);
+            case LATE:
+                return counterRepository.incrementLate(serviceId, delta);
+            default:
+                return counterRepository.incrementAbsent(serviceId, delta);
+        }
+    }
+}
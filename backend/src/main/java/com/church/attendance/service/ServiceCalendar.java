@@ -0,0 +1,237 @@
+package com.church.attendance.service;
+
+import com.church.attendance.entity.Service;
+import com.church.attendance.event.ServiceChangedEvent;
+import com.church.attendance.repository.ServiceRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * 예배 일정 메모리 캐시
+ * 예배 시작 시간 순으로 정렬된 변경 불가능한 스냅샷을 통째로 교체하므로 조회 시 잠금 없이 DB 를 거치지 않음
+ * 최근 service.calendar.history-days 일 이후의 예배만 적재하고, 그 이전 기간 조회는 DB 에서 직접 조회
+ * (기간 지정 없는 이전 예배 조회는 페이지 단위로만 허용)
+ * 
+ * - 이 서버에서 예배가 생성/수정되면 커밋 후 변경 표시만 하고 다음 조회 때 한 번 다시 적재
+ *   (정기 예배 일괄 생성처럼 변경이 연달아 와도 적재는 한 번)
+ * - 다른 서버의 변경은 1분마다 예배 수와 마지막 수정 시간을 비교하여 반영
+ */
+@Slf4j
+@Component
+public class ServiceCalendar {
+    
+    private final ServiceRepository serviceRepository;
+    private final int historyDays;
+    
+    private volatile Snapshot snapshot;
+    private volatile Object[] lastFingerprint;
+    private volatile boolean dirty;
+    
+    public ServiceCalendar(ServiceRepository serviceRepository,
+                           @Value("${service.calendar.history-days:90}") int historyDays) {
+        this.serviceRepository = serviceRepository;
+        this.historyDays = historyDays;
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onServiceChanged(ServiceChangedEvent event) {
+        dirty = true;
+    }
+    
+    /**
+     * 매 1분마다 실행
+     * 다른 서버에서 변경된 예배 반영
+     */
+    @Scheduled(fixedDelay = 60000, initialDelay = 60000)
+    public void refreshIfChanged() {
+        try {
+            Object[] fingerprint = serviceRepository.findCalendarFingerprint().get(0);
+            if (!Arrays.equals(fingerprint, lastFingerprint)) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.error("예배 일정 캐시 갱신 중 오류 발생", e);
+        }
+    }
+    
+    /**
+     * 예배 일정 다시 적재
+     */
+    public synchronized void reload() {
+        // 적재 중 들어온 변경은 다시 표시되어 다음 조회 때 반영
+        dirty = false;
+        Object[] fingerprint = serviceRepository.findCalendarFingerprint().get(0);
+        LocalDateTime since = LocalDate.now().minusDays(historyDays).atStartOfDay();
+        
+        NavigableMap<LocalDateTime, List<Entry>> byTime = new TreeMap<>();
+        serviceRepository.findByServiceTimeGreaterThanEqualOrderByServiceTimeAsc(since).forEach(service -> byTime
+                .computeIfAbsent(service.getServiceTime(), time -> new ArrayList<>())
+                .add(Entry.of(service)));
+        byTime.replaceAll((time, entries) -> Collections.unmodifiableList(entries));
+        
+        snapshot = new Snapshot(versionTagOf(fingerprint), since, Collections.unmodifiableNavigableMap(byTime));
+        lastFingerprint = fingerprint;
+    }
+    
+    /**
+     * 예배 일정 버전 (예배 수와 마지막 수정 시간 기준이므로 서버가 달라도 같은 일정이면 같은 값)
+     */
+    public String getVersionTag() {
+        return current().versionTag;
+    }
+    
+    /**
+     * 활성 예배 (최근 history-days 일 이후, 시작 시간 순)
+     */
+    public List<Entry> getActive() {
+        return filterActive(current().byTime.values());
+    }
+    
+    /**
+     * 현재 시간 이후 시작하는 첫 활성 예배 (없으면 null)
+     */
+    public Entry getNext(LocalDateTime now) {
+        for (List<Entry> entries : current().byTime.tailMap(now, false).values()) {
+            for (Entry entry : entries) {
+                if (entry.isActive()) {
+                    return entry;
+                }
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * 기간 내 활성 예배 (시작 시간 순)
+     */
+    public List<Entry> getActiveBetween(LocalDateTime from, LocalDateTime to) {
+        Snapshot current = current();
+        if (from.isBefore(current.since)) {
+            // 적재 범위 이전 기간이 포함되면 DB 에서 조회
+            return serviceRepository.findActiveServicesBetween(from, to).stream()
+                    .sorted(Comparator.comparing(Service::getServiceTime))
+                    .map(Entry::of)
+                    .collect(Collectors.toList());
+        }
+        return filterActive(current.byTime.subMap(from, true, to, true).values());
+    }
+    
+    /**
+     * 적재 범위 내 전체 예배 (비활성 포함, 시작 시간 순)
+     * 그 이전 예배는 getHistoryPage 로 나누어 조회
+     */
+    public List<Entry> getAll() {
+        List<Entry> all = new ArrayList<>();
+        current().byTime.values().forEach(all::addAll);
+        return all;
+    }
+    
+    /**
+     * 적재 범위 이전 예배 (비활성 포함, 최신순, DB 에서 limit 건까지 조회)
+     * 
+     * @param beforeServiceTime 이전 페이지 마지막 예배의 시작 시간 (첫 페이지면 null)
+     * @param beforeId 이전 페이지 마지막 예배의 ID (첫 페이지면 null)
+     */
+    public List<Entry> getHistoryPage(LocalDateTime beforeServiceTime, Long beforeId, int limit) {
+        PageRequest pageRequest = PageRequest.of(0, limit);
+        LocalDateTime since = current().since;
+        List<Service> services = (beforeServiceTime == null || beforeId == null || !beforeServiceTime.isBefore(since))
+                ? serviceRepository.findHistoryPage(since, pageRequest)
+                : serviceRepository.findHistoryPageBefore(beforeServiceTime, beforeId, pageRequest);
+        return services.stream()
+                .map(Entry::of)
+                .collect(Collectors.toList());
+    }
+    
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null || dirty) {
+            current = reloadIfStale();
+        }
+        return current;
+    }
+    
+    /**
+     * 여러 요청이 동시에 변경 표시를 보더라도 한 번만 다시 적재
+     */
+    private synchronized Snapshot reloadIfStale() {
+        if (snapshot == null || dirty) {
+            reload();
+        }
+        return Objects.requireNonNull(snapshot);
+    }
+    
+    private static List<Entry> filterActive(Collection<List<Entry>> groups) {
+        List<Entry> active = new ArrayList<>();
+        for (List<Entry> entries : groups) {
+            for (Entry entry : entries) {
+                if (entry.isActive()) {
+                    active.add(entry);
+                }
+            }
+        }
+        return active;
+    }
+    
+    private static String versionTagOf(Object[] fingerprint) {
+        LocalDateTime lastUpdatedAt = (LocalDateTime) fingerprint[1];
+        long lastUpdatedMillis = lastUpdatedAt == null
+                ? 0
+                : lastUpdatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return fingerprint[0] + "." + lastUpdatedMillis;
+    }
+    
+    private static class Snapshot {
+        private final String versionTag;
+        private final LocalDateTime since;
+        private final NavigableMap<LocalDateTime, List<Entry>> byTime;
+        
+        private Snapshot(String versionTag, LocalDateTime since, NavigableMap<LocalDateTime, List<Entry>> byTime) {
+            this.versionTag = versionTag;
+            this.since = since;
+            this.byTime = byTime;
+        }
+    }
+    
+    /**
+     * 캐시된 예배 (변경 불가)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Entry {
+        private final Long id;
+        private final String name;
+        private final LocalDateTime serviceTime;
+        private final String type;
+        private final boolean active;
+        
+        private static Entry of(Service service) {
+            return new Entry(
+                    service.getId(),
+                    service.getName(),
+                    service.getServiceTime(),
+                    service.getType().name(),
+                    Boolean.TRUE.equals(service.getActive()));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.church.attendance.service;
+
+import com.church.attendance.entity.Attendance;
+import com.church.attendance.entity.Service;
+import com.church.attendance.event.ServiceClosedEvent;
+import com.church.attendance.metrics.AttendanceMetrics;
+import com.church.attendance.repository.AttendanceRepository;
+import com.church.attendance.repository.ServiceRepository;
+import com.church.attendance.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 예배 종료 처리
+ * 종료된 예배에 출석 기록이 없는 활성 일반 사용자의 결석 기록을 생성하여
+ * 결석자 조회를 users 와의 anti-join 없이 인덱스 조회로 처리
+ * 
+ * 사용자 ID 구간별로 나누어 각각 별도 트랜잭션으로 저장하므로 중간에 실패해도 다시 실행하면 이어서 처리
+ */
+@Slf4j
+@org.springframework.stereotype.Service
+public class ServiceClosingService {
+    
+    private static final String ABSENT_NOTES = "자동 결석 처리 (예배 종료)";
+    
+    private final ServiceRepository serviceRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final UserRepository userRepository;
+    private final ServiceAttendanceCounterService counterService;
+    private final UserAttendanceStatsService statsService;
+    private final AttendanceTrendService trendService;
+    private final AttendanceAdmissionCache admissionCache;
+    private final AttendanceWriteBehindQueue writeBehindQueue;
+    private final AttendanceMetrics attendanceMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${church.location.latitude}")
+    private double churchLatitude;
+    
+    @Value("${church.location.longitude}")
+    private double churchLongitude;
+    
+    @Value("${attendance.close-after-minutes}")
+    private int closeAfterMinutes;
+    
+    @Value("${attendance.closing.lookback-days}")
+    private int lookbackDays;
+    
+    @Value("${attendance.closing.chunk-size}")
+    private int chunkSize;
+    
+    public ServiceClosingService(ServiceRepository serviceRepository,
+                                 AttendanceRepository attendanceRepository,
+                                 UserRepository userRepository,
+                                 ServiceAttendanceCounterService counterService,
+                                 UserAttendanceStatsService statsService,
+                                 AttendanceTrendService trendService,
+                                 AttendanceAdmissionCache admissionCache,
+                                 AttendanceWriteBehindQueue writeBehindQueue,
+                                 AttendanceMetrics attendanceMetrics,
+                                 ApplicationEventPublisher eventPublisher,
+                                 PlatformTransactionManager transactionManager) {
+        this.serviceRepository = serviceRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.userRepository = userRepository;
+        this.counterService = counterService;
+        this.statsService = statsService;
+        this.trendService = trendService;
+        this.admissionCache = admissionCache;
+        this.writeBehindQueue = writeBehindQueue;
+        this.attendanceMetrics = attendanceMetrics;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    /**
+     * 종료 시간이 지난 예배 결석 처리
+     * 최근 lookback-days 이내 예배만 대상 (기능 도입 전 예배에 현재 사용자 기준 결석이 생기지 않도록)
+     * 
+     * @return 생성된 결석 기록 수
+     */
+    public int closeDueServices() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Service> services = serviceRepository.findServicesToClose(
+                now.minusMinutes(closeAfterMinutes),
+                now.minusDays(lookbackDays));
+        
+        int insertedCount = 0;
+        for (Service service : services) {
+            insertedCount += close(service);
+        }
+        return insertedCount;
+    }
+    
+    /**
+     * 예배 1건 결석 처리 후 종료 표시, 통계/추이 반영
+     * 
+     * @return 생성된 결석 기록 수
+     */
+    public int close(Service service) {
+        long startedAt = System.nanoTime();
+        
+        // 큐에 대기 중인 출석 기록이 결석으로 덮이지 않도록 먼저 저장
+        writeBehindQueue.flushNow();
+        
+        LocalDateTime checkedAt = LocalDateTime.now();
+        long maxUserId = userRepository.findMaxId();
+        int insertedCount = 0;
+        
+        for (long fromUserId = 0; fromUserId < maxUserId; fromUserId += chunkSize) {
+            long chunkStartedAt = System.nanoTime();
+            long from = fromUserId;
+            long to = Math.min(fromUserId + chunkSize, maxUserId);
+            
+            Integer chunkInserted = transactionTemplate.execute(status -> {
+                int rows = attendanceRepository.insertAbsentForMissingUsers(
+                        service.getId(), from, to, churchLatitude, churchLongitude, checkedAt, ABSENT_NOTES);
+                counterService.increment(service.getId(), Attendance.AttendanceStatus.ABSENT, rows);
+                return rows;
+            });
+            
+            insertedCount += chunkInserted;
+            attendanceMetrics.recordClosingChunk(chunkStartedAt, chunkInserted, (double) to / maxUserId);
+        }
+        
+        transactionTemplate.executeWithoutResult(status -> {
+            counterService.fixExpected(service.getId());
+            serviceRepository.markClosed(service.getId(), LocalDateTime.now());
+            eventPublisher.publishEvent(new ServiceClosedEvent(service.getId()));
+        });
+        
+        // 캐시를 거치지 않고 기록이 생성되었으므로 다음 요청 시 다시 적재
+        admissionCache.evictService(service.getId());
+        
+        if (insertedCount > 0) {
+            statsService.applyAbsent(service.getId());
+        }
+        trendService.rollUp(service);
+        
+        log.info("예배 [{}] (시작: {}) 결석 처리 완료: {}명 ({}ms)",
+                service.getName(),
+                service.getServiceTime(),
+                insertedCount,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return insertedCount;
+    }
+}
@@ -1,9 +1,12 @@
 package com.church.attendance.service;
 
+import com.church.attendance.dto.ServicePageResponse;
 import com.church.attendance.dto.ServiceResponse;
+import com.church.attendance.event.ServiceChangedEvent;
 import com.church.attendance.repository.ServiceRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -14,47 +17,74 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class ServiceService {
     
+    private static final int MAX_PAGE_SIZE = 500;
+    
     private final ServiceRepository serviceRepository;
+    private final ServiceAttendanceCounterService counterService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ServiceCalendar serviceCalendar;
     
     @Value("${attendance.activation-minutes-before}")
     private int activationMinutesBefore;
     
-    @Transactional(readOnly = true)
+    /**
+     * 활성화된 예배 목록 (예배 일정 캐시에서 조회)
+     */
     public List<ServiceResponse> getActiveServices() {
-        LocalDateTime now = LocalDateTime.now();
-        
-        return serviceRepository.findByActiveTrue().stream()
-                .map(service -> {
-                    LocalDateTime activationTime = service.getServiceTime().minusMinutes(activationMinutesBefore);
-                    boolean canCheck = now.isAfter(activationTime) || now.isEqual(activationTime);
-                    return ServiceResponse.from(service, canCheck);
-                })
-                .collect(Collectors.toList());
+        return toResponses(serviceCalendar.getActive());
     }
     
-    @Transactional(readOnly = true)
+    /**
+     * 다가오는 다음 예배 (예배 일정 캐시에서 조회)
+     */
     public ServiceResponse getNextService() {
-        LocalDateTime now = LocalDateTime.now();
-        com.church.attendance.entity.Service service = serviceRepository.findNextUpcomingService(now)
-                .orElseThrow(() -> new RuntimeException("다가오는 예배가 없습니다"));
-        
-        LocalDateTime activationTime = service.getServiceTime().minusMinutes(activationMinutesBefore);
-        boolean canCheck = now.isAfter(activationTime) || now.isEqual(activationTime);
+        ServiceCalendar.Entry service = serviceCalendar.getNext(LocalDateTime.now());
+        if (service == null) {
+            throw new RuntimeException("다가오는 예배가 없습니다");
+        }
         
-        return ServiceResponse.from(service, canCheck);
+        return toResponse(service, LocalDateTime.now());
     }
     
-    @Transactional(readOnly = true)
+    /**
+     * 기간 내 활성화된 예배 (예배 일정 캐시에서 조회)
+     */
+    public List<ServiceResponse> getServicesBetween(LocalDateTime from, LocalDateTime to) {
+        if (from.isAfter(to)) {
+            throw new RuntimeException("조회 시작 시간이 종료 시간보다 늦습니다");
+        }
+        return toResponses(serviceCalendar.getActiveBetween(from, to));
+    }
+    
+    /**
+     * 최근 history-days 일 이후 모든 예배 (예배 일정 캐시에서 조회, 시작 시간 순)
+     */
     public List<ServiceResponse> getAllServices() {
-        LocalDateTime now = LocalDateTime.now();
+        return toResponses(serviceCalendar.getAll());
+    }
+    
+    /**
+     * 그 이전 예배 페이지 조회 (최신순, 키셋 페이지네이션)
+     * 
+     * @param beforeServiceTime 이전 페이지 마지막 예배의 시작 시간 (첫 페이지면 null)
+     * @param beforeId 이전 페이지 마지막 예배의 ID (첫 페이지면 null)
+     * @param size 페이지 크기 (최대 500)
+     */
+    public ServicePageResponse getServiceHistoryPage(LocalDateTime beforeServiceTime, Long beforeId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<ServiceCalendar.Entry> rows = serviceCalendar.getHistoryPage(beforeServiceTime, beforeId, pageSize + 1);
         
-        return serviceRepository.findAll().stream()
-                .map(service -> {
-                    LocalDateTime activationTime = service.getServiceTime().minusMinutes(activationMinutesBefore);
-                    boolean canCheck = now.isAfter(activationTime) || now.isEqual(activationTime);
-                    return ServiceResponse.from(service, canCheck);
-                })
-                .collect(Collectors.toList());
+        boolean hasNext = rows.size() > pageSize;
+        List<ServiceCalendar.Entry> items = hasNext ? rows.subList(0, pageSize) : rows;
+        
+        ServiceCalendar.Entry last = items.isEmpty() ? null : items.get(items.size() - 1);
+        return ServicePageResponse.builder()
+                .items(toResponses(items))
+                .hasNext(hasNext)
+                .nextServiceTime(hasNext ? last.getServiceTime() : null)
+                .nextId(hasNext ? last.getId() : null)
+                .build();
     }
     
     /**
@@ -73,7 +103,41 @@ public class ServiceService {
                 .active(true)
                 .build();
         
-        return serviceRepository.save(service);
+        service = serviceRepository.save(service);
+        counterService.initialize(service.getId());
+        
+        // 커밋 후 자동 지각 처리 예약
+        eventPublisher.publishEvent(new ServiceChangedEvent(service.getId()));
+        
+        return service;
+    }
+    
+    /**
+     * 여러 예배 일괄 생성 (정기 예배 템플릿)
+     */
+    @Transactional
+    public List<com.church.attendance.entity.Service> createServices(List<com.church.attendance.entity.Service> services) {
+        List<com.church.attendance.entity.Service> saved = serviceRepository.saveAll(services);
+        for (com.church.attendance.entity.Service service : saved) {
+            counterService.initialize(service.getId());
+            eventPublisher.publishEvent(new ServiceChangedEvent(service.getId()));
+        }
+        return saved;
+    }
+    
+    /**
+     * 예배 시간/활성화 변경 (정기 예배 예외 반영)
+     */
+    @Transactional
+    public com.church.attendance.entity.Service updateService(Long serviceId, LocalDateTime serviceTime, boolean active) {
+        com.church.attendance.entity.Service service = serviceRepository.findById(serviceId)
+                .orElseThrow(() -> new RuntimeException("예배를 찾을 수 없습니다"));
+        service.setServiceTime(serviceTime);
+        service.setActive(active);
+        
+        // 커밋 후 자동 지각 처리 재예약
+        eventPublisher.publishEvent(new ServiceChangedEvent(service.getId()));
+        return service;
     }
     
     /**
@@ -84,11 +148,33 @@ public class ServiceService {
         LocalDateTime startOfDay = date.toLocalDate().atStartOfDay();
         LocalDateTime endOfDay = date.toLocalDate().atTime(23, 59, 59);
         
-        List<com.church.attendance.entity.Service> services = serviceRepository.findActiveServicesBetween(
-                startOfDay, endOfDay);
-        
-        return !services.isEmpty();
+        return serviceRepository.existsByActiveTrueAndServiceTimeBetween(startOfDay, endOfDay);
+    }
+    
+    /**
+     * 예배 응답 ETag 값
+     * 예배 일정 버전과 출석 체크 가능한 예배 수로 구성 (출석 체크 가능 여부는 시간이 지나면 바뀌므로)
+     */
+    public String getCalendarETag(List<ServiceResponse> services) {
+        long checkable = services.stream()
+                .filter(service -> Boolean.TRUE.equals(service.getCanCheckAttendance()))
+                .count();
+        return "svc-" + serviceCalendar.getVersionTag() + "-" + services.size() + "-" + checkable;
+    }
+    
+    private List<ServiceResponse> toResponses(List<ServiceCalendar.Entry> services) {
+        LocalDateTime now = LocalDateTime.now();
+        return services.stream()
+                .map(service -> toResponse(service, now))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 출석 체크 가능 여부는 요청 시각 기준으로 계산
+     */
+    private ServiceResponse toResponse(ServiceCalendar.Entry service, LocalDateTime now) {
+        LocalDateTime activationTime = service.getServiceTime().minusMinutes(activationMinutesBefore);
+        boolean canCheck = now.isAfter(activationTime) || now.isEqual(activationTime);
+        return ServiceResponse.from(service, canCheck);
     }
 }
-
-
@@ -0,0 +1,307 @@
+package com.church.attendance.service;
+
+import com.church.attendance.dto.ServiceResponse;
+import com.church.attendance.dto.ServiceTemplateExceptionRequest;
+import com.church.attendance.dto.ServiceTemplateRequest;
+import com.church.attendance.dto.ServiceTemplateResponse;
+import com.church.attendance.entity.Service;
+import com.church.attendance.entity.ServiceTemplate;
+import com.church.attendance.entity.ServiceTemplateException;
+import com.church.attendance.repository.ServiceRepository;
+import com.church.attendance.repository.ServiceTemplateExceptionRepository;
+import com.church.attendance.repository.ServiceTemplateRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 정기 예배 템플릿 관리 및 예배 생성
+ * 
+ * 앞으로 horizon-days 일 동안의 예배를 한 번에 생성
+ * 기간 내 기존 예배를 한 번만 조회하여 (템플릿, 날짜)와 시작 시간으로 중복을 확인하고
+ * 없는 예배만 일괄 저장하므로 여러 번 실행해도 같은 결과
+ */
+@Slf4j
+@org.springframework.stereotype.Service
+@RequiredArgsConstructor
+public class ServiceTemplateService {
+    
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    
+    private final ServiceTemplateRepository templateRepository;
+    private final ServiceTemplateExceptionRepository exceptionRepository;
+    private final ServiceRepository serviceRepository;
+    private final ServiceService serviceService;
+    
+    @Value("${service.templates.horizon-days}")
+    private int horizonDays;
+    
+    /**
+     * 템플릿이 하나도 없으면 기본 주일 오후 2시 예배 템플릿 생성
+     */
+    @Transactional
+    public void seedDefaultTemplateIfEmpty() {
+        if (templateRepository.count() > 0) {
+            return;
+        }
+        
+        templateRepository.save(ServiceTemplate.builder()
+                .name("주일 예배")
+                .type(Service.ServiceType.SUNDAY)
+                .dayOfWeek(DayOfWeek.SUNDAY)
+                .startTime(LocalTime.of(14, 0))
+                .active(true)
+                .build());
+        log.info("기본 주일 예배 템플릿 생성 (일요일 14:00)");
+    }
+    
+    /**
+     * 오늘부터 horizon-days 일 동안의 예배 생성
+     * 
+     * @return 새로 생성된 예배
+     */
+    @Transactional
+    public List<Service> generateHorizon() {
+        LocalDate today = LocalDate.now();
+        return generate(today, today.plusDays(horizonDays));
+    }
+    
+    /**
+     * 기간 내 정기 예배 생성 (이미 있는 예배, 이미 시작된 시간은 제외)
+     */
+    @Transactional
+    public List<Service> generate(LocalDate from, LocalDate to) {
+        List<ServiceTemplate> templates = templateRepository.findByActiveTrue();
+        if (templates.isEmpty()) {
+            return new ArrayList<>();
+        }
+        
+        Map<String, ServiceTemplateException> exceptions = new HashMap<>();
+        for (ServiceTemplateException exception : exceptionRepository.findBetween(from, to)) {
+            exceptions.put(occurrenceKey(exception.getTemplate().getId(), exception.getExceptionDate()), exception);
+        }
+        
+        // 기간 내 템플릿 예배를 한 번에 조회하여 메모리에서 중복 확인
+        // (같은 시간의 다른 예배가 있어도 이 템플릿의 해당 날짜 예배가 없으면 생성)
+        Set<String> existingOccurrences = new HashSet<>();
+        for (Object[] row : serviceRepository.findOccurrenceKeys(from, to)) {
+            existingOccurrences.add(occurrenceKey((Long) row[0], (LocalDate) row[1]));
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        List<Service> services = new ArrayList<>();
+        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
+            for (ServiceTemplate template : templates) {
+                if (!template.occursOn(date)) {
+                    continue;
+                }
+                
+                String key = occurrenceKey(template.getId(), date);
+                ServiceTemplateException exception = exceptions.get(key);
+                if (exception != null && exception.isSkip()) {
+                    continue;
+                }
+                
+                LocalDateTime serviceTime = date.atTime(startTimeOf(template, exception));
+                if (!serviceTime.isAfter(now) || existingOccurrences.contains(key)) {
+                    continue;
+                }
+                
+                services.add(Service.builder()
+                        .name(serviceNameOf(template, date))
+                        .serviceTime(serviceTime)
+                        .type(template.getType())
+                        .active(true)
+                        .templateId(template.getId())
+                        .occurrenceDate(date)
+                        .build());
+            }
+        }
+        
+        if (services.isEmpty()) {
+            return services;
+        }
+        return serviceService.createServices(services);
+    }
+    
+    @Transactional(readOnly = true)
+    public List<ServiceTemplateResponse> getTemplates() {
+        return templateRepository.findAllByOrderByDayOfWeekAscStartTimeAsc().stream()
+                .map(template -> ServiceTemplateResponse.from(template,
+                        exceptionRepository.findByTemplateId(template.getId())))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 템플릿 생성 후 기간 내 예배 생성
+     */
+    @Transactional
+    public ServiceTemplateResponse createTemplate(ServiceTemplateRequest request) {
+        ServiceTemplate template = ServiceTemplate.builder().build();
+        apply(template, request);
+        template = templateRepository.save(template);
+        
+        generateHorizon();
+        return ServiceTemplateResponse.from(template, new ArrayList<>());
+    }
+    
+    /**
+     * 템플릿 수정 후 아직 시작하지 않은 예배에 반영
+     */
+    @Transactional
+    public ServiceTemplateResponse updateTemplate(Long templateId, ServiceTemplateRequest request) {
+        ServiceTemplate template = findTemplate(templateId);
+        apply(template, request);
+        
+        syncFutureServices(template);
+        generateHorizon();
+        return ServiceTemplateResponse.from(template, exceptionRepository.findByTemplateId(templateId));
+    }
+    
+    /**
+     * 템플릿 비활성화 (아직 시작하지 않은 예배도 비활성화)
+     */
+    @Transactional
+    public void deactivateTemplate(Long templateId) {
+        ServiceTemplate template = findTemplate(templateId);
+        template.setActive(false);
+        syncFutureServices(template);
+    }
+    
+    /**
+     * 특정 날짜 예외 추가/수정 (예배 없음 또는 시간 변경)
+     */
+    @Transactional
+    public ServiceTemplateResponse saveException(Long templateId, ServiceTemplateExceptionRequest request) {
+        ServiceTemplate template = findTemplate(templateId);
+        if (!request.isSkip() && request.getOverrideTime() == null) {
+            throw new RuntimeException("변경할 시간을 입력해주세요");
+        }
+        
+        ServiceTemplateException exception = exceptionRepository.findByTemplateIdAndDate(templateId, request.getDate())
+                .orElseGet(() -> ServiceTemplateException.builder()
+                        .template(template)
+                        .exceptionDate(request.getDate())
+                        .build());
+        exception.setSkip(request.isSkip());
+        exception.setOverrideTime(request.isSkip() ? null : request.getOverrideTime());
+        exception.setReason(request.getReason());
+        exceptionRepository.save(exception);
+        
+        syncFutureServices(template);
+        generateHorizon();
+        return ServiceTemplateResponse.from(template, exceptionRepository.findByTemplateId(templateId));
+    }
+    
+    /**
+     * 예외 삭제 (템플릿 기본 일정으로 복원)
+     */
+    @Transactional
+    public void deleteException(Long templateId, Long exceptionId) {
+        ServiceTemplate template = findTemplate(templateId);
+        ServiceTemplateException exception = exceptionRepository.findById(exceptionId)
+                .filter(e -> e.getTemplate().getId().equals(templateId))
+                .orElseThrow(() -> new RuntimeException("예외 일정을 찾을 수 없습니다"));
+        exceptionRepository.delete(exception);
+        exceptionRepository.flush();
+        
+        syncFutureServices(template);
+        generateHorizon();
+    }
+    
+    /**
+     * 수동으로 기간 내 예배 생성
+     */
+    @Transactional
+    public List<ServiceResponse> generateNow() {
+        return generateHorizon().stream()
+                .map(service -> ServiceResponse.from(service, false))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 템플릿으로 생성되어 아직 시작하지 않은 예배를 현재 템플릿/예외에 맞게 수정
+     */
+    private void syncFutureServices(ServiceTemplate template) {
+        Map<LocalDate, ServiceTemplateException> exceptions = exceptionRepository.findByTemplateId(template.getId()).stream()
+                .collect(Collectors.toMap(ServiceTemplateException::getExceptionDate, e -> e));
+        LocalDateTime now = LocalDateTime.now();
+        
+        for (Service service : serviceRepository.findByTemplateIdAndOccurrenceDateGreaterThanEqual(
+                template.getId(), now.toLocalDate())) {
+            if (!service.getServiceTime().isAfter(now) || service.getLateProcessedAt() != null) {
+                continue; // 이미 시작된 예배는 변경하지 않음
+            }
+            
+            LocalDate date = service.getOccurrenceDate();
+            ServiceTemplateException exception = exceptions.get(date);
+            boolean active = Boolean.TRUE.equals(template.getActive())
+                    && template.occursOn(date)
+                    && (exception == null || !exception.isSkip());
+            LocalDateTime serviceTime = date.atTime(startTimeOf(template, exception));
+            
+            if (active == Boolean.TRUE.equals(service.getActive()) && serviceTime.equals(service.getServiceTime())) {
+                continue;
+            }
+            service.setName(serviceNameOf(template, date));
+            service.setType(template.getType());
+            serviceService.updateService(service.getId(), serviceTime, active);
+        }
+    }
+    
+    private void apply(ServiceTemplate template, ServiceTemplateRequest request) {
+        if (request.getValidFrom() != null && request.getValidUntil() != null
+                && request.getValidFrom().isAfter(request.getValidUntil())) {
+            throw new RuntimeException("적용 시작일이 종료일보다 늦습니다");
+        }
+        
+        template.setName(request.getName());
+        template.setType(parseServiceType(request.getType()));
+        template.setDayOfWeek(request.getDayOfWeek());
+        template.setStartTime(request.getStartTime());
+        template.setValidFrom(request.getValidFrom());
+        template.setValidUntil(request.getValidUntil());
+        template.setActive(request.getActive() == null || request.getActive());
+    }
+    
+    private Service.ServiceType parseServiceType(String type) {
+        try {
+            return Service.ServiceType.valueOf(type);
+        } catch (IllegalArgumentException e) {
+            throw new RuntimeException("올바르지 않은 예배 유형입니다: " + type);
+        }
+    }
+    
+    private ServiceTemplate findTemplate(Long templateId) {
+        return templateRepository.findById(templateId)
+                .orElseThrow(() -> new RuntimeException("예배 템플릿을 찾을 수 없습니다"));
+    }
+    
+    private static LocalTime startTimeOf(ServiceTemplate template, ServiceTemplateException exception) {
+        return exception != null && exception.getOverrideTime() != null
+                ? exception.getOverrideTime()
+                : template.getStartTime();
+    }
+    
+    private static String serviceNameOf(ServiceTemplate template, LocalDate date) {
+        return String.format("%s (%s)", template.getName(), date.format(DATE_FORMATTER));
+    }
+    
+    private static String occurrenceKey(Long templateId, LocalDate date) {
+        return templateId + ":" + date;
+    }
+}
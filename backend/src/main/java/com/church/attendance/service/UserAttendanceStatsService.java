@@ -0,0 +1,323 @@
+package com.church.attendance.service;
+
+import com.church.attendance.dto.UserAttendanceStatsResponse;
+import com.church.attendance.entity.Attendance;
+import com.church.attendance.entity.UserAttendanceStats;
+import com.church.attendance.event.AttendanceCheckedEvent;
+import com.church.attendance.event.AutoLateProcessedEvent;
+import com.church.attendance.repository.AttendanceRepository;
+import com.church.attendance.repository.UserAttendanceStatsRepository;
+import com.church.attendance.repository.UserRepository;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 출석 통계 관리
+ * 
+ * 통계 행에 반영한 마지막 출석 기록 ID(appliedAttendanceId)를 두고, 통계 행을 잠근 뒤 그보다 큰 ID 의 기록만 더하여
+ * 같은 기록이 두 번 더해지지 않게 함 (서버가 여러 대이거나 재계산과 겹쳐도 통계 행 잠금으로 한쪽만 반영)
+ * 출석 기록 행은 다시 읽어 잠그거나 수정하지 않음
+ * 
+ * - 출석 체크: 커밋 후 대기열에 넣고 주기적으로 모아서 갱신 (출석 체크 트랜잭션에 쿼리를 추가하지 않음)
+ * - 자동 지각: 해당 예배에 미반영 기록이 있는 사용자만 반영
+ * - 결석 처리: UPDATE ... JOIN 한 번으로 결석 수만 증가
+ * - 매일 새벽 전체 재계산으로 보정 (같은 사용자의 기록이 ID 순서와 다르게 커밋되어 건너뛴 드문 경우 포함)
+ */
+@Slf4j
+@Service
+public class UserAttendanceStatsService {
+    
+    private static final int CHUNK_SIZE = 500;
+    
+    /**
+     * 지연 저장 모드에서 아직 INSERT 되지 않은 기록을 다시 기다리는 최대 시간
+     */
+    private static final Duration PENDING_RETRY_LIMIT = Duration.ofMinutes(2);
+    
+    private final UserAttendanceStatsRepository statsRepository;
+    private final AttendanceRepository attendanceRepository;
+    private final UserRepository userRepository;
+    private final AttendanceAdmissionCache admissionCache;
+    private final TransactionTemplate transactionTemplate;
+    private final Queue<PendingStat> pending = new ConcurrentLinkedQueue<>();
+    
+    public UserAttendanceStatsService(UserAttendanceStatsRepository statsRepository,
+                                      AttendanceRepository attendanceRepository,
+                                      UserRepository userRepository,
+                                      AttendanceAdmissionCache admissionCache,
+                                      PlatformTransactionManager transactionManager) {
+        this.statsRepository = statsRepository;
+        this.attendanceRepository = attendanceRepository;
+        this.userRepository = userRepository;
+        this.admissionCache = admissionCache;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAttendanceChecked(AttendanceCheckedEvent event) {
+        pending.add(new PendingStat(
+                event.getAttendance().getUserId(),
+                event.getAttendance().getServiceId(),
+                LocalDateTime.now()));
+    }
+    
+    /**
+     * 자동 지각으로 생성된 기록 반영 (해당 예배에 미반영 기록이 있는 사용자만 처리하고 전체를 재계산하지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAutoLateProcessed(AutoLateProcessedEvent event) {
+        if (event.getResult().getInsertedCount() > 0) {
+            applyService(event.getServiceId());
+        }
+    }
+    
+    /**
+     * 예배 결석 기록 반영
+     * 통계 행이 있고 앞선 미반영 기록이 없는 사용자는 UPDATE ... JOIN 한 번으로, 나머지는 엔티티 경로로 반영
+     */
+    public void applyAbsent(Long serviceId) {
+        transactionTemplate.executeWithoutResult(status -> statsRepository.applyAbsent(serviceId));
+        applyService(serviceId);
+    }
+    
+    /**
+     * 대기 중인 출석 반영
+     */
+    @Scheduled(fixedDelayString = "${attendance.stats.flush-interval-ms:1000}")
+    public synchronized void flushPending() {
+        List<PendingStat> batch = new ArrayList<>();
+        List<PendingStat> retry = new ArrayList<>();
+        PendingStat stat;
+        while ((stat = pending.poll()) != null) {
+            batch.add(stat);
+            if (batch.size() >= CHUNK_SIZE) {
+                retry.addAll(applyPending(batch));
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            retry.addAll(applyPending(batch));
+        }
+        pending.addAll(retry);
+    }
+    
+    /**
+     * 지정 사용자 통계를 출석 기록 기준으로 재계산
+     */
+    public void rebuild(Collection<Long> userIds) {
+        List<Long> ids = new ArrayList<>(new HashSet<>(userIds));
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()));
+            transactionTemplate.executeWithoutResult(status -> rebuildChunk(chunk));
+        }
+    }
+    
+    /**
+     * 전체 사용자 통계 재계산
+     * 
+     * @return 재계산한 사용자 수
+     */
+    public int rebuildAll() {
+        List<Long> userIds = userRepository.findAllIds();
+        rebuild(userIds);
+        return userIds.size();
+    }
+    
+    /**
+     * 내 출석 통계 조회
+     */
+    @Transactional(readOnly = true)
+    public UserAttendanceStatsResponse getMyStats(int weeks) {
+        String username = SecurityContextHolder.getContext().getAuthentication().getName();
+        AttendanceAdmissionCache.UserEntry user = admissionCache.getUser(username);
+        
+        UserAttendanceStats stats = statsRepository.findById(user.getId()).orElse(null);
+        return UserAttendanceStatsResponse.from(user.getId(), user.getName(), stats, LocalDate.now(), normalizeWeeks(weeks));
+    }
+    
+    /**
+     * 활성 사용자 전체 출석 통계 조회 (관리자)
+     */
+    @Transactional(readOnly = true)
+    public List<UserAttendanceStatsResponse> getAllStats(int weeks) {
+        LocalDate today = LocalDate.now();
+        int window = normalizeWeeks(weeks);
+        
+        return statsRepository.findActiveUsersWithStats().stream()
+                .map(row -> UserAttendanceStatsResponse.from(
+                        (Long) row[0], (String) row[1], (UserAttendanceStats) row[2], today, window))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 대기 항목의 사용자 통계에 미반영 기록을 반영
+     * 
+     * @return 기록이 아직 저장되지 않아 다시 기다릴 항목 (지연 저장 모드)
+     */
+    private List<PendingStat> applyPending(List<PendingStat> batch) {
+        Set<Long> userIds = batch.stream()
+                .map(PendingStat::getUserId)
+                .collect(Collectors.toSet());
+        
+        List<PendingStat> notStored;
+        try {
+            notStored = transactionTemplate.execute(status -> {
+                Set<String> applied = applyUsers(userIds);
+                List<PendingStat> missing = batch.stream()
+                        .filter(stat -> !applied.contains(key(stat.getUserId(), stat.getServiceId())))
+                        .collect(Collectors.toList());
+                if (missing.isEmpty()) {
+                    return missing;
+                }
+                
+                // 반영할 기록이 없으면 이미 반영되었거나(재계산, 자동 지각) 지연 저장 대기 중
+                List<PendingStat> waiting = new ArrayList<>();
+                Map<Long, List<PendingStat>> byService = missing.stream()
+                        .collect(Collectors.groupingBy(PendingStat::getServiceId, LinkedHashMap::new, Collectors.toList()));
+                for (Map.Entry<Long, List<PendingStat>> entry : byService.entrySet()) {
+                    Set<Long> stored = new HashSet<>(attendanceRepository.findUserIdsByServiceIdAndUserIds(
+                            entry.getKey(),
+                            entry.getValue().stream().map(PendingStat::getUserId).collect(Collectors.toSet())));
+                    entry.getValue().stream()
+                            .filter(stat -> !stored.contains(stat.getUserId()))
+                            .forEach(waiting::add);
+                }
+                return waiting;
+            });
+        } catch (RuntimeException e) {
+            // 잠금 충돌 등으로 실패하면 반영되지 않았으므로 다음 주기에 다시 시도
+            log.warn("출석 통계 반영 실패 ({}건), 다음 주기에 재시도", batch.size(), e);
+            notStored = batch;
+        }
+        
+        // 아직 저장되지 않은 기록은 잠시 동안만 다시 확인
+        LocalDateTime retryAfter = LocalDateTime.now().minus(PENDING_RETRY_LIMIT);
+        return notStored.stream()
+                .filter(stat -> stat.getQueuedAt().isAfter(retryAfter))
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 예배에 미반영 기록이 있는 사용자의 통계 반영
+     */
+    private void applyService(Long serviceId) {
+        List<Long> userIds = attendanceRepository.findUnappliedUserIdsByServiceId(serviceId);
+        for (int from = 0; from < userIds.size(); from += CHUNK_SIZE) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + CHUNK_SIZE, userIds.size()));
+            transactionTemplate.executeWithoutResult(status -> applyUsers(chunk));
+        }
+    }
+    
+    /**
+     * 통계 행을 잠근 뒤 반영한 마지막 기록 ID 보다 큰 기록을 ID 순서로 더함 (관리 상태 엔티티이므로 커밋 시 UPDATE 일괄 실행)
+     * 
+     * @return 반영한 기록의 사용자/예배 키
+     */
+    private Set<String> applyUsers(Collection<Long> userIds) {
+        Map<Long, UserAttendanceStats> statsByUser = loadOrCreate(userIds);
+        
+        Set<String> applied = new HashSet<>();
+        for (Object[] row : attendanceRepository.findUnappliedByUserIds(userIds)) {
+            UserAttendanceStats stats = statsByUser.get((Long) row[1]);
+            if (stats != null) {
+                stats.record((Long) row[0], (Attendance.AttendanceStatus) row[3], (LocalDateTime) row[4]);
+                applied.add(key((Long) row[1], (Long) row[2]));
+            }
+        }
+        return applied;
+    }
+    
+    private void rebuildChunk(List<Long> userIds) {
+        // 통계 행을 먼저 잠가 재계산 중 대기열 반영이 끼어들지 않게 하고, 재계산한 마지막 기록 ID 까지 반영된 것으로 둠
+        Map<Long, UserAttendanceStats> statsByUser = loadOrCreate(userIds);
+        statsByUser.values().forEach(stats -> {
+            stats.setPresentCount(0);
+            stats.setLateCount(0);
+            stats.setAbsentCount(0);
+            stats.setLastAttendedAt(null);
+            stats.setRecentWeeksMask(0);
+            stats.setMaskWeekStart(null);
+            stats.setAppliedAttendanceId(0);
+        });
+        
+        for (Object[] row : attendanceRepository.countByUserIdsGroupByStatus(userIds)) {
+            UserAttendanceStats stats = statsByUser.get((Long) row[0]);
+            long count = (Long) row[2];
+            stats.setAppliedAttendanceId(Math.max(stats.getAppliedAttendanceId(), (Long) row[3]));
+            switch ((Attendance.AttendanceStatus) row[1]) {
+                case PRESENT:
+                    stats.setPresentCount(count);
+                    break;
+                case LATE:
+                    stats.setLateCount(count);
+                    break;
+                default:
+                    stats.setAbsentCount(count);
+            }
+        }
+        
+        LocalDateTime since = UserAttendanceStats.weekStartOf(LocalDate.now())
+                .minusWeeks(UserAttendanceStats.MAX_WEEKS - 1)
+                .atStartOfDay();
+        for (Object[] row : attendanceRepository.findAttendedTimesSince(userIds, since)) {
+            statsByUser.get((Long) row[0]).markWeek(((LocalDateTime) row[1]).toLocalDate());
+        }
+        
+        for (Object[] row : attendanceRepository.findLastAttendedByUserIds(userIds)) {
+            statsByUser.get((Long) row[0]).setLastAttendedAt((LocalDateTime) row[1]);
+        }
+    }
+    
+    /**
+     * 통계 행을 먼저 생성한 뒤 조회하여 모두 관리 상태로 반환 (행마다 존재 여부를 조회하지 않음)
+     */
+    private Map<Long, UserAttendanceStats> loadOrCreate(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return new LinkedHashMap<>();
+        }
+        statsRepository.insertMissing(userIds);
+        return statsRepository.findAllForUpdate(userIds).stream()
+                .collect(Collectors.toMap(UserAttendanceStats::getUserId, Function.identity(),
+                        (a, b) -> a, LinkedHashMap::new));
+    }
+    
+    private static String key(Long userId, Long serviceId) {
+        return userId + ":" + serviceId;
+    }
+    
+    private int normalizeWeeks(int weeks) {
+        return Math.max(1, Math.min(weeks, UserAttendanceStats.MAX_WEEKS));
+    }
+    
+    @Getter
+    @AllArgsConstructor
+    private static class PendingStat {
+        private final Long userId;
+        private final Long serviceId;
+        private final LocalDateTime queuedAt;
+    }
+}
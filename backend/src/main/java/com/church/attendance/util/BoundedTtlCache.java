@@ -0,0 +1,130 @@
+package com.church.attendance.util;
+
+import com.church.attendance.dto.CacheStatsResponse;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+/**
+ * 최대 크기와 만료 시간이 있는 메모리 캐시
+ * 최대 크기 초과 시 가장 오래 사용되지 않은 항목부터 제거 (LRU)
+ */
+public class BoundedTtlCache<K, V> {
+    
+    private final String name;
+    private final long ttlMillis;
+    private final int maxSize;
+    private final Map<K, Entry<V>> entries;
+    
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    
+    public BoundedTtlCache(String name, long ttlMillis, int maxSize) {
+        this.name = name;
+        this.ttlMillis = ttlMillis;
+        this.maxSize = maxSize;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedTtlCache.this.maxSize) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    /**
+     * 캐시 조회
+     * 
+     * @return 캐시에 없거나 만료되었으면 null
+     */
+    public V get(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+                hits.incrementAndGet();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.incrementAndGet();
+            }
+        }
+        misses.incrementAndGet();
+        return null;
+    }
+    
+    public void put(K key, V value) {
+        put(key, value, System.currentTimeMillis() + ttlMillis);
+    }
+    
+    /**
+     * 만료 시각을 지정하여 저장 (기본 TTL 보다 늦으면 기본 TTL 적용)
+     */
+    public void put(K key, V value, long expiresAtMillis) {
+        long expiresAt = Math.min(expiresAtMillis, System.currentTimeMillis() + ttlMillis);
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, expiresAt));
+        }
+    }
+    
+    public void invalidate(K key) {
+        synchronized (entries) {
+            if (entries.remove(key) != null) {
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+    
+    public void invalidateAll() {
+        synchronized (entries) {
+            invalidations.addAndGet(entries.size());
+            entries.clear();
+        }
+    }
+    
+    /**
+     * 조건에 맞는 경우에만 제거
+     */
+    public void invalidateIf(K key, Predicate<V> condition) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && condition.test(entry.value)) {
+                entries.remove(key);
+                invalidations.incrementAndGet();
+            }
+        }
+    }
+    
+    public CacheStatsResponse getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        return CacheStatsResponse.builder()
+                .name(name)
+                .size(size)
+                .maxSize(maxSize)
+                .hits(hits.get())
+                .misses(misses.get())
+                .evictions(evictions.get())
+                .invalidations(invalidations.get())
+                .build();
+    }
+    
+    private static class Entry<V> {
+        private final V value;
+        private final long expiresAt;
+        
+        private Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.church.attendance.util;
+
+/**
+ * 외부 API 호출 차단기
+ * 
+ * - CLOSED: 정상 호출, 연속 실패가 failureThreshold 에 도달하면 OPEN
+ * - OPEN: openMillis 동안 호출하지 않고 바로 실패
+ * - HALF_OPEN: OPEN 시간이 지나면 한 건만 시험 호출, 성공하면 CLOSED / 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+    
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+    
+    private final String name;
+    private final int failureThreshold;
+    private final long openMillis;
+    
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+    
+    public CircuitBreaker(String name, int failureThreshold, long openMillis) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openMillis = openMillis;
+    }
+    
+    /**
+     * 호출 가능 여부 (true 면 호출 후 반드시 onSuccess/onFailure/onCancel 중 하나를 호출)
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        if (state == State.CLOSED) {
+            return true;
+        }
+        if (state == State.HALF_OPEN && !trialInFlight) {
+            trialInFlight = true;
+            return true;
+        }
+        return false;
+    }
+    
+    public synchronized void onSuccess() {
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+    
+    public synchronized void onFailure() {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+            trialInFlight = false;
+        }
+    }
+    
+    /**
+     * 결과 없이 취소된 호출 (시험 호출이었다면 다음 호출이 시험할 수 있도록 해제)
+     */
+    public synchronized void onCancel() {
+        trialInFlight = false;
+    }
+    
+    public synchronized State getState() {
+        return state;
+    }
+    
+    public String getName() {
+        return name;
+    }
+}
@@ -0,0 +1,296 @@
+package com.church.attendance.util;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 출석 장소 격자 색인 (변경 불가능, 장소가 바뀌면 통째로 다시 생성)
+ * 
+ * 위도/경도를 cellDegrees 간격의 격자로 나누고 각 장소를 영역(bounding box)이 걸치는 칸에 미리 넣어 둠
+ * 좌표 판정은 해당 칸의 장소만 확인하므로 장소 수와 관계없이 일정한 비용
+ * 
+ * - 1차: 영역(bounding box) 비교
+ * - 2차: 원은 등장방형 근사 거리, 다각형은 반직선 교차 판정
+ * - 근사 거리가 반경 경계 근처일 때만 Haversine 으로 다시 계산
+ */
+public class GeofenceIndex {
+    
+    private static final int MAX_CELLS_PER_FENCE = 4096;   // 이보다 넓은 장소는 격자에 넣지 않고 항상 확인
+    private static final double BOUNDARY_TOLERANCE = 0.005; // 근사 거리 허용 오차 (반경 대비)
+    private static final double MIN_COS_LATITUDE = 0.01;
+    
+    private final double cellDegrees;
+    private final Map<Long, Fence[]> cells;
+    private final Fence[] oversized;
+    private final Fence[] all;
+    
+    private GeofenceIndex(double cellDegrees, Map<Long, Fence[]> cells, Fence[] oversized, Fence[] all) {
+        this.cellDegrees = cellDegrees;
+        this.cells = cells;
+        this.oversized = oversized;
+        this.all = all;
+    }
+    
+    /**
+     * 장소 목록으로 색인 생성
+     * 
+     * @param fences 장소 목록 (특정 예배 전용 장소를 먼저 확인하도록 정렬됨)
+     * @param cellDegrees 격자 한 칸의 크기 (도)
+     */
+    public static GeofenceIndex build(List<Fence> fences, double cellDegrees) {
+        List<Fence> ordered = new ArrayList<>(fences);
+        ordered.sort((a, b) -> Boolean.compare(a.serviceId == null, b.serviceId == null));
+        
+        Map<Long, List<Fence>> grid = new HashMap<>();
+        List<Fence> oversized = new ArrayList<>();
+        for (Fence fence : ordered) {
+            int minLatCell = cellOf(fence.minLat, cellDegrees);
+            int maxLatCell = cellOf(fence.maxLat, cellDegrees);
+            int minLonCell = cellOf(fence.minLon, cellDegrees);
+            int maxLonCell = cellOf(fence.maxLon, cellDegrees);
+            long cellCount = (long) (maxLatCell - minLatCell + 1) * (maxLonCell - minLonCell + 1);
+            if (cellCount > MAX_CELLS_PER_FENCE) {
+                oversized.add(fence);
+                continue;
+            }
+            for (int latCell = minLatCell; latCell <= maxLatCell; latCell++) {
+                for (int lonCell = minLonCell; lonCell <= maxLonCell; lonCell++) {
+                    grid.computeIfAbsent(keyOf(latCell, lonCell), key -> new ArrayList<>()).add(fence);
+                }
+            }
+        }
+        
+        Map<Long, Fence[]> cells = new HashMap<>(grid.size() * 2);
+        grid.forEach((key, cellFences) -> cells.put(key, cellFences.toArray(new Fence[0])));
+        return new GeofenceIndex(cellDegrees, Collections.unmodifiableMap(cells),
+                oversized.toArray(new Fence[0]), ordered.toArray(new Fence[0]));
+    }
+    
+    /**
+     * 좌표가 들어가는 장소 찾기
+     * 
+     * @param serviceId 출석 체크하는 예배 (해당 예배 전용 장소와 공통 장소만 확인)
+     * @return 들어가는 장소와 중심까지의 거리, 없으면 적용되는 장소 중 가장 가까운 장소와 거리
+     */
+    public Match locate(Long serviceId, double latitude, double longitude) {
+        Match nearest = Match.NONE;
+        
+        Fence[] candidates = cells.get(keyOf(cellOf(latitude, cellDegrees), cellOf(longitude, cellDegrees)));
+        if (candidates != null) {
+            for (Fence fence : candidates) {
+                if (!fence.appliesTo(serviceId)) {
+                    continue;
+                }
+                Match match = fence.test(latitude, longitude);
+                if (match.isInside()) {
+                    return match;
+                }
+                nearest = closer(nearest, match);
+            }
+        }
+        for (Fence fence : oversized) {
+            if (!fence.appliesTo(serviceId)) {
+                continue;
+            }
+            Match match = fence.test(latitude, longitude);
+            if (match.isInside()) {
+                return match;
+            }
+            nearest = closer(nearest, match);
+        }
+        if (nearest.getFence() == null) {
+            // 근처 칸에 장소가 없으면 거리 안내를 위해 전체 장소에서 가장 가까운 곳을 찾음 (밖으로 판정된 경우에만)
+            for (Fence fence : all) {
+                if (fence.appliesTo(serviceId)) {
+                    nearest = closer(nearest, fence.measure(latitude, longitude));
+                }
+            }
+        }
+        return nearest;
+    }
+    
+    /**
+     * 색인된 장소 수
+     */
+    public int size() {
+        return all.length;
+    }
+    
+    private static Match closer(Match current, Match candidate) {
+        if (candidate.getFence() == null) {
+            return current;
+        }
+        if (current.getFence() == null || candidate.getDistance() < current.getDistance()) {
+            return candidate;
+        }
+        return current;
+    }
+    
+    private static int cellOf(double degrees, double cellDegrees) {
+        return (int) Math.floor(degrees / cellDegrees);
+    }
+    
+    private static long keyOf(int latCell, int lonCell) {
+        return ((long) latCell << 32) | (lonCell & 0xFFFFFFFFL);
+    }
+    
+    /**
+     * 색인에 넣을 장소 (원 또는 다각형)
+     */
+    public static class Fence {
+        private final Long id;
+        private final String name;
+        private final Long serviceId;
+        private final double centerLat;
+        private final double centerLon;
+        private final double cosCenterLat;
+        private final double radius;      // 원의 반경 (다각형은 0)
+        private final double[] polyLats;  // 다각형 꼭짓점 (원은 null)
+        private final double[] polyLons;
+        private final double minLat;
+        private final double maxLat;
+        private final double minLon;
+        private final double maxLon;
+        
+        private Fence(Long id, String name, Long serviceId, double centerLat, double centerLon, double radius,
+                      double[] polyLats, double[] polyLons,
+                      double minLat, double maxLat, double minLon, double maxLon) {
+            this.id = id;
+            this.name = name;
+            this.serviceId = serviceId;
+            this.centerLat = centerLat;
+            this.centerLon = centerLon;
+            this.cosCenterLat = Math.max(Math.cos(Math.toRadians(centerLat)), MIN_COS_LATITUDE);
+            this.radius = radius;
+            this.polyLats = polyLats;
+            this.polyLons = polyLons;
+            this.minLat = minLat;
+            this.maxLat = maxLat;
+            this.minLon = minLon;
+            this.maxLon = maxLon;
+        }
+        
+        /**
+         * 원 영역 (영역은 근사 오차만큼 넓게 잡음)
+         */
+        public static Fence circle(Long id, String name, Long serviceId,
+                                   double latitude, double longitude, double radiusMeters) {
+            double latSpan = radiusMeters * (1 + BOUNDARY_TOLERANCE) / LocationUtil.METERS_PER_DEGREE;
+            double lonSpan = latSpan / Math.max(Math.cos(Math.toRadians(latitude)), MIN_COS_LATITUDE);
+            return new Fence(id, name, serviceId, latitude, longitude, radiusMeters, null, null,
+                    latitude - latSpan, latitude + latSpan, longitude - lonSpan, longitude + lonSpan);
+        }
+        
+        /**
+         * 다각형 영역 (중심은 꼭짓점 평균, 거리 기록용)
+         */
+        public static Fence polygon(Long id, String name, Long serviceId, double[] lats, double[] lons) {
+            if (lats.length < 3 || lats.length != lons.length) {
+                throw new IllegalArgumentException("다각형은 꼭짓점이 3개 이상이어야 합니다");
+            }
+            double minLat = lats[0];
+            double maxLat = lats[0];
+            double minLon = lons[0];
+            double maxLon = lons[0];
+            double sumLat = 0;
+            double sumLon = 0;
+            for (int i = 0; i < lats.length; i++) {
+                minLat = Math.min(minLat, lats[i]);
+                maxLat = Math.max(maxLat, lats[i]);
+                minLon = Math.min(minLon, lons[i]);
+                maxLon = Math.max(maxLon, lons[i]);
+                sumLat += lats[i];
+                sumLon += lons[i];
+            }
+            return new Fence(id, name, serviceId, sumLat / lats.length, sumLon / lons.length, 0,
+                    lats.clone(), lons.clone(), minLat, maxLat, minLon, maxLon);
+        }
+        
+        public Long getId() {
+            return id;
+        }
+        
+        public String getName() {
+            return name;
+        }
+        
+        public boolean isCircle() {
+            return polyLats == null;
+        }
+        
+        public double getRadius() {
+            return radius;
+        }
+        
+        /**
+         * 장소 밖으로 보고 중심까지의 거리만 계산 (출석 불가 안내용)
+         */
+        public Match measure(double latitude, double longitude) {
+            return new Match(this, false, LocationUtil.calculateDistance(centerLat, centerLon, latitude, longitude));
+        }
+        
+        private boolean appliesTo(Long targetServiceId) {
+            return serviceId == null || serviceId.equals(targetServiceId);
+        }
+        
+        /**
+         * 좌표가 이 장소 안에 있는지 판정
+         */
+        public Match test(double latitude, double longitude) {
+            double distance = LocationUtil.approximateDistance(centerLat, centerLon, latitude, longitude, cosCenterLat);
+            if (latitude < minLat || latitude > maxLat || longitude < minLon || longitude > maxLon) {
+                return new Match(this, false, distance);
+            }
+            
+            if (!isCircle()) {
+                return new Match(this, containsInPolygon(latitude, longitude), distance);
+            }
+            
+            // 근사 거리가 반경 경계 근처일 때만 정확한 거리로 판정
+            if (Math.abs(distance - radius) <= radius * BOUNDARY_TOLERANCE + 1) {
+                distance = LocationUtil.calculateDistance(centerLat, centerLon, latitude, longitude);
+            }
+            return new Match(this, distance <= radius, distance);
+        }
+        
+        /**
+         * 반직선 교차 판정 (교회 규모의 영역에서는 위도/경도를 평면 좌표로 보아도 충분)
+         */
+        private boolean containsInPolygon(double latitude, double longitude) {
+            boolean inside = false;
+            for (int i = 0, j = polyLats.length - 1; i < polyLats.length; j = i++) {
+                if ((polyLats[i] > latitude) != (polyLats[j] > latitude)
+                        && longitude < (polyLons[j] - polyLons[i]) * (latitude - polyLats[i])
+                                / (polyLats[j] - polyLats[i]) + polyLons[i]) {
+                    inside = !inside;
+                }
+            }
+            return inside;
+        }
+    }
+    
+    /**
+     * 좌표 판정 결과
+     * fence: 들어간 장소 (밖이면 적용되는 장소 중 가장 가까운 장소, 적용되는 장소가 없으면 null)
+     * distance: 장소 중심까지의 거리(미터)
+     */
+    @Getter
+    public static class Match {
+        private static final Match NONE = new Match(null, false, Double.NaN);
+        
+        private final Fence fence;
+        private final boolean inside;
+        private final double distance;
+        
+        private Match(Fence fence, boolean inside, double distance) {
+            this.fence = fence;
+            this.inside = inside;
+            this.distance = distance;
+        }
+    }
+}
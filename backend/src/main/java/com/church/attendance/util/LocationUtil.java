@@ -4,6 +4,8 @@ public class LocationUtil {
     
     private static final double EARTH_RADIUS_METERS = 6371000.0; // 지구 반지름 (미터)
     
+    public static final double METERS_PER_DEGREE = EARTH_RADIUS_METERS * Math.PI / 180; // 위도 1도의 거리 (미터)
+    
     /**
      * Haversine 공식을 사용하여 두 좌표 간의 거리를 계산합니다.
      * 
@@ -42,6 +44,21 @@ public class LocationUtil {
         double distance = calculateDistance(centerLat, centerLon, targetLat, targetLon);
         return distance <= radiusMeters;
     }
+    
+    /**
+     * 등장방형 근사로 두 좌표 간의 거리를 계산합니다. (삼각함수 호출 없음)
+     * 1km 이내에서는 Haversine 과의 차이가 수 cm 수준입니다.
+     * 
+     * @param lat1 첫 번째 지점의 위도
+     * @param lon1 첫 번째 지점의 경도
+     * @param lat2 두 번째 지점의 위도
+     * @param lon2 두 번째 지점의 경도
+     * @param cosLatitude 기준 위도의 코사인 (미리 계산한 값)
+     * @return 두 지점 간의 근사 거리(미터)
+     */
+    public static double approximateDistance(double lat1, double lon1, double lat2, double lon2, double cosLatitude) {
+        double x = (lon2 - lon1) * cosLatitude;
+        double y = lat2 - lat1;
+        return Math.sqrt(x * x + y * y) * METERS_PER_DEGREE;
+    }
 }
-
-
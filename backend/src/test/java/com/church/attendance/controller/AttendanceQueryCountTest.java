@@ -0,0 +1,183 @@
+package com.church.attendance.controller;
+
+import com.church.attendance.entity.Attendance;
+import com.church.attendance.entity.Service;
+import com.church.attendance.entity.User;
+import com.church.attendance.repository.AttendanceRepository;
+import com.church.attendance.repository.ServiceRepository;
+import com.church.attendance.repository.UserRepository;
+import com.church.attendance.support.QueryCountInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 출석 조회 API 의 요청당 SQL 실행 횟수 확인
+ * 응답에 사용자/예배 이름이 들어가므로 연관 엔티티 지연 로딩(N+1)이 생기면 기록 수만큼 횟수가 늘어나 실패
+ * 
+ * 사용자 조회 캐시가 채워진 상태(두 번째 요청)를 기준으로 셈
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:query_count;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.church.attendance.support.QueryCountInspector",
+        "spring.sql.init.mode=never"
+})
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AttendanceQueryCountTest {
+    
+    @Autowired
+    private MockMvc mockMvc;
+    
+    @Autowired
+    private UserRepository userRepository;
+    
+    @Autowired
+    private ServiceRepository serviceRepository;
+    
+    @Autowired
+    private AttendanceRepository attendanceRepository;
+    
+    private Service firstService;
+    
+    @BeforeAll
+    void setUp() {
+        User member = userRepository.save(user("member1"));
+        User other = userRepository.save(user("member2"));
+        firstService = serviceRepository.save(service("주일 1부 예배", LocalDateTime.now().minusDays(7)));
+        Service secondService = serviceRepository.save(service("주일 2부 예배", LocalDateTime.now().minusDays(1)));
+        
+        attendanceRepository.save(attendance(member, firstService, Attendance.AttendanceStatus.PRESENT));
+        attendanceRepository.save(attendance(member, secondService, Attendance.AttendanceStatus.LATE));
+        attendanceRepository.save(attendance(other, firstService, Attendance.AttendanceStatus.PRESENT));
+    }
+    
+    /**
+     * 사용자/예배 이름을 포함한 프로젝션 1 (ETag 용 버전은 첫 요청에서 메모리에 적재)
+     */
+    @Test
+    @WithMockUser(username = "member1")
+    void myAttendances() throws Exception {
+        RequestBuilder request = get("/api/attendance/my");
+        mockMvc.perform(request).andExpect(status().isOk());
+        
+        QueryCountInspector.start();
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].serviceName").isNotEmpty());
+        
+        assertThat(QueryCountInspector.stop()).isEqualTo(1);
+    }
+    
+    /**
+     * 변경이 없으면 DB 조회 없이 304
+     */
+    @Test
+    @WithMockUser(username = "member1")
+    void myAttendancesNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/api/attendance/my"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+        
+        QueryCountInspector.start();
+        mockMvc.perform(get("/api/attendance/my").header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        
+        assertThat(QueryCountInspector.stop()).isZero();
+    }
+    
+    /**
+     * 예배 존재 확인 1 + 프로젝션 1
+     */
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void serviceAttendances() throws Exception {
+        QueryCountInspector.start();
+        mockMvc.perform(get("/api/attendance/service/{serviceId}", firstService.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].userName").isNotEmpty());
+        
+        assertThat(QueryCountInspector.stop()).isEqualTo(2);
+    }
+    
+    /**
+     * 프로젝션 1
+     */
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void allAttendances() throws Exception {
+        QueryCountInspector.start();
+        mockMvc.perform(get("/api/attendance/all"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(3))
+                .andExpect(jsonPath("$[0].userName").isNotEmpty())
+                .andExpect(jsonPath("$[0].serviceName").isNotEmpty());
+        
+        assertThat(QueryCountInspector.stop()).isEqualTo(1);
+    }
+    
+    /**
+     * 사용자와 통계를 함께 조회 1
+     */
+    @Test
+    @WithMockUser(username = "admin", roles = "ADMIN")
+    void allStats() throws Exception {
+        QueryCountInspector.start();
+        mockMvc.perform(get("/api/admin/attendance-stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(2));
+        
+        assertThat(QueryCountInspector.stop()).isEqualTo(1);
+    }
+    
+    private static User user(String username) {
+        return User.builder()
+                .username(username)
+                .password("{none}")
+                .name(username)
+                .role(User.Role.USER)
+                .active(true)
+                .build();
+    }
+    
+    private static Service service(String name, LocalDateTime serviceTime) {
+        return Service.builder()
+                .name(name)
+                .serviceTime(serviceTime)
+                .type(Service.ServiceType.SUNDAY)
+                .active(true)
+                .build();
+    }
+    
+    private static Attendance attendance(User user, Service service, Attendance.AttendanceStatus status) {
+        return Attendance.builder()
+                .user(user)
+                .service(service)
+                .status(status)
+                .latitude(37.5665)
+                .longitude(126.9780)
+                .distance(0.0)
+                .checkedAt(LocalDateTime.now())
+                .build();
+    }
+}
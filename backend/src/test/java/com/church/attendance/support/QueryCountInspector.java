@@ -0,0 +1,36 @@
+package com.church.attendance.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 테스트용 SQL 실행 횟수 집계
+ * start 를 호출한 스레드에서 Hibernate 가 준비하는 SQL 만 세므로 스케줄러 등 다른 스레드의 SQL 은 섞이지 않음
+ */
+public class QueryCountInspector implements StatementInspector {
+    
+    private static final ThreadLocal<long[]> COUNT = new ThreadLocal<>();
+    
+    public static void start() {
+        COUNT.set(new long[1]);
+    }
+    
+    /**
+     * 집계 종료
+     * 
+     * @return start 이후 실행된 SQL 수
+     */
+    public static long stop() {
+        long[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+    
+    @Override
+    public String inspect(String sql) {
+        long[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
@@ -36,6 +36,7 @@ class AuthProvider with ChangeNotifier {
 
       // 토큰 저장
       await StorageHelper.saveToken(response['token']);
+      await StorageHelper.saveRefreshToken(response['refreshToken']);
 
       // 사용자 정보 저장
       await StorageHelper.saveUserInfo(response);
@@ -67,6 +68,7 @@ class AuthProvider with ChangeNotifier {
 
       // 토큰 저장
       await StorageHelper.saveToken(response['token']);
+      await StorageHelper.saveRefreshToken(response['refreshToken']);
 
       // 사용자 정보 저장
       await StorageHelper.saveUserInfo(response);
@@ -86,6 +88,7 @@ class AuthProvider with ChangeNotifier {
 
       // 토큰 저장
       await StorageHelper.saveToken(response['token']);
+      await StorageHelper.saveRefreshToken(response['refreshToken']);
 
       // 사용자 정보 저장
       await StorageHelper.saveUserInfo(response);
@@ -19,6 +19,51 @@ class ApiService {
     return headers;
   }
 
+  static Future<bool>? _refreshing;
+
+  // 인증이 필요한 요청: 401 이면 리프레시 토큰으로 갱신 후 한 번 재시도
+  static Future<http.Response> _sendAuthorized(
+      Future<http.Response> Function() send) async {
+    final response = await send();
+    if (response.statusCode != 401) {
+      return response;
+    }
+    if (await _refreshAccessToken()) {
+      return send();
+    }
+    return response;
+  }
+
+  // 토큰 갱신 (동시에 여러 요청이 만료되어도 갱신 요청은 한 번만 보냄)
+  static Future<bool> _refreshAccessToken() {
+    _refreshing ??= _requestRefresh().whenComplete(() => _refreshing = null);
+    return _refreshing!;
+  }
+
+  static Future<bool> _requestRefresh() async {
+    final refreshToken = StorageHelper.getRefreshToken();
+    if (refreshToken == null) {
+      return false;
+    }
+
+    try {
+      final response = await http.post(
+        Uri.parse('${ApiConfig.baseUrl}/auth/refresh'),
+        headers: _getHeaders(includeAuth: false),
+        body: json.encode({'refreshToken': refreshToken}),
+      );
+      if (response.statusCode != 200) {
+        return false;
+      }
+      final body = json.decode(utf8.decode(response.bodyBytes));
+      await StorageHelper.saveToken(body['token']);
+      await StorageHelper.saveRefreshToken(body['refreshToken']);
+      return true;
+    } catch (e) {
+      return false;
+    }
+  }
+
   // 로그인
   static Future<Map<String, dynamic>> login(
       String username, String password) async {
@@ -77,10 +122,10 @@ class ApiService {
 
   // 활성화된 예배 목록 조회
   static Future<List<dynamic>> getActiveServices() async {
-    final response = await http.get(
-      Uri.parse('${ApiConfig.baseUrl}/services'),
-      headers: _getHeaders(),
-    );
+    final response = await _sendAuthorized(() => http.get(
+        Uri.parse('${ApiConfig.baseUrl}/services'),
+        headers: _getHeaders(),
+      ));
 
     if (response.statusCode == 200) {
       return json.decode(utf8.decode(response.bodyBytes));
@@ -91,10 +136,10 @@ class ApiService {
 
   // 다음 예배 조회
   static Future<Map<String, dynamic>> getNextService() async {
-    final response = await http.get(
-      Uri.parse('${ApiConfig.baseUrl}/services/next'),
-      headers: _getHeaders(),
-    );
+    final response = await _sendAuthorized(() => http.get(
+        Uri.parse('${ApiConfig.baseUrl}/services/next'),
+        headers: _getHeaders(),
+      ));
 
     if (response.statusCode == 200) {
       return json.decode(utf8.decode(response.bodyBytes));
@@ -109,15 +154,15 @@ class ApiService {
     required double latitude,
     required double longitude,
   }) async {
-    final response = await http.post(
-      Uri.parse('${ApiConfig.baseUrl}/attendance/check'),
-      headers: _getHeaders(),
-      body: json.encode({
-        'serviceId': serviceId,
-        'latitude': latitude,
-        'longitude': longitude,
-      }),
-    );
+    final response = await _sendAuthorized(() => http.post(
+        Uri.parse('${ApiConfig.baseUrl}/attendance/check'),
+        headers: _getHeaders(),
+        body: json.encode({
+          'serviceId': serviceId,
+          'latitude': latitude,
+          'longitude': longitude,
+        }),
+      ));
 
     if (response.statusCode == 200) {
       return json.decode(utf8.decode(response.bodyBytes));
@@ -129,10 +174,10 @@ class ApiService {
 
   // 내 출석 기록 조회
   static Future<List<dynamic>> getMyAttendances() async {
-    final response = await http.get(
-      Uri.parse('${ApiConfig.baseUrl}/attendance/my'),
-      headers: _getHeaders(),
-    );
+    final response = await _sendAuthorized(() => http.get(
+        Uri.parse('${ApiConfig.baseUrl}/attendance/my'),
+        headers: _getHeaders(),
+      ));
 
     if (response.statusCode == 200) {
       return json.decode(utf8.decode(response.bodyBytes));
@@ -20,6 +20,19 @@ class StorageHelper {
     await _prefs.remove('token');
   }
 
+  // Refresh Token (액세스 토큰 만료 시 갱신용)
+  static Future<void> saveRefreshToken(String? refreshToken) async {
+    if (refreshToken == null) {
+      await _prefs.remove('refreshToken');
+    } else {
+      await _prefs.setString('refreshToken', refreshToken);
+    }
+  }
+
+  static String? getRefreshToken() {
+    return _prefs.getString('refreshToken');
+  }
+
   // User Info
   static Future<void> saveUserInfo(Map<String, dynamic> userInfo) async {
     await _prefs.setInt('userId', userInfo['userId']);